@@ -8,6 +8,7 @@ CREATE TABLE users (
                        password VARCHAR(255) NOT NULL,
                        name VARCHAR(255) NOT NULL,
                        role VARCHAR(20),
+                       calendar_feed_key VARCHAR(64),
                        created_at DATETIME NOT NULL,
                        updated_at DATETIME
 );
@@ -22,8 +23,14 @@ CREATE TABLE lessons (
                          duration_type VARCHAR(10) NOT NULL,
                          status VARCHAR(20) NOT NULL,
                          created_at DATETIME NOT NULL,
+                         -- 캘린더 피드 증분 동기화 기준 (마이크로초 단위로 같은 초 안의 변경도 구분)
+                         updated_at DATETIME(6),
                          CONSTRAINT fk_lessons_student FOREIGN KEY (student_id) REFERENCES users(id),
-                         CONSTRAINT fk_lessons_tutor FOREIGN KEY (tutor_id) REFERENCES users(id)
+                         CONSTRAINT fk_lessons_tutor FOREIGN KEY (tutor_id) REFERENCES users(id),
+                         -- 학생별 수업 목록 조회 (student_id = ? ORDER BY start_time)
+                         INDEX idx_lessons_student_start (student_id, start_time),
+                         -- 튜터별 수업 일정 조회 (tutor_id = ? AND start_time BETWEEN ? AND ?)
+                         INDEX idx_lessons_tutor_start (tutor_id, start_time)
 );
 
 -- 수업 가능 시간 테이블
@@ -34,5 +41,20 @@ CREATE TABLE availabilities (
                                 end_time DATETIME,
                                 is_booked BOOLEAN,
                                 created_at DATETIME,
-                                CONSTRAINT fk_availabilities_tutor FOREIGN KEY (tutor_id) REFERENCES users(id)
+                                CONSTRAINT fk_availabilities_tutor FOREIGN KEY (tutor_id) REFERENCES users(id),
+                                -- 튜터별 슬롯 중복 방지 + 튜터별 시간 조회 (tutor_id = ? AND start_time ...)
+                                CONSTRAINT uk_availabilities_tutor_start UNIQUE (tutor_id, start_time),
+                                -- 기간별 예약 가능 슬롯 조회 (start_time BETWEEN ? AND ? AND is_booked = false)
+                                INDEX idx_availabilities_start_booked (start_time, is_booked)
+);
+
+-- 수업 가능 시간 변경 로그 테이블 (추가 전용, id = 변경 순번)
+-- - 델타 조회는 PK 범위 조회 (id > ? ORDER BY id LIMIT ?)
+CREATE TABLE availability_changes (
+                                      id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                      type VARCHAR(10) NOT NULL,
+                                      availability_id BIGINT NOT NULL,
+                                      tutor_id BIGINT NOT NULL,
+                                      start_time DATETIME NOT NULL,
+                                      created_at DATETIME(6) NOT NULL
 );
@@ -3,6 +3,7 @@ package com.ringle.common.config;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
 import org.redisson.config.Config;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -10,15 +11,17 @@ import org.springframework.context.annotation.Configuration;
  * Redis 설정 클래스
  * - Redisson 클라이언트를 빈으로 등록
  * - Redis 기반의 분산 락을 사용할 수 있도록 설정
+ * - 주소는 spring.data.redis.host / port 설정을 사용
  */
 @Configuration
 public class RedisConfig {
 
     @Bean
-    public RedissonClient redissonClient() {
+    public RedissonClient redissonClient(@Value("${spring.data.redis.host}") String host,
+                                         @Value("${spring.data.redis.port}") int port) {
         Config config = new Config();
         // 단일 Redis 서버 주소 지정
-        config.useSingleServer().setAddress("redis://ringle-redis:6379");
+        config.useSingleServer().setAddress("redis://" + host + ":" + port);
         return Redisson.create(config);
     }
 }
@@ -2,6 +2,7 @@ package com.ringle.common.config;
 
 import com.ringle.security.CustomUserDetailsService;
 import com.ringle.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
@@ -28,8 +29,9 @@ public class SecurityConfig {
             "/swagger-ui/**", "/v3/api-docs/**", "/swagger-resources/**", "/error"
     };
 
+    // 캘린더 피드는 캘린더 앱이 JWT 없이 구독하므로 URL의 피드 토큰으로 검증
     private static final String[] PERMIT_ALL_PATH = {
-            "/", "/api/auth/**", "/api/files/**"
+            "/", "/api/auth/**", "/api/files/**", "/api/calendar/feeds/**"
     };
 
     @Bean
@@ -41,6 +43,9 @@ public class SecurityConfig {
                 .logout(logout -> logout.disable())
 
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 응답(스트리밍 등)의 재디스패치는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // 인증 없이 접근 가능한 경로
                         .requestMatchers(SWAGGER_PATH).permitAll()
                         .requestMatchers(PERMIT_ALL_PATH).permitAll()
@@ -0,0 +1,9 @@
+package com.ringle.common.datasource;
+
+/**
+ * 라우팅 대상 DataSource 구분
+ */
+public enum DataSourceType {
+    PRIMARY, // 쓰기 + 최근 쓰기 사용자의 읽기
+    REPLICA  // 읽기 전용 트랜잭션
+}
@@ -0,0 +1,76 @@
+package com.ringle.common.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ringle.security.CustomUserDetails;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * 읽기 전용 트랜잭션은 Replica, 그 외에는 Primary로 보내는 라우팅 DataSource
+ * - 실제 커넥션 획득 시점에 트랜잭션의 readOnly 여부를 판단해야 하므로 LazyConnectionDataSourceProxy로 감싸서 사용
+ * - Read-your-writes: Primary에서 쓰기 트랜잭션을 커밋한 사용자는 일정 시간 동안 읽기도 Primary로 보냄 (복제 지연 대비)
+ *   커밋 직후(afterCommit)부터 시간을 재므로 긴 트랜잭션이어도 복제 대기 구간이 줄어들지 않고, 롤백된 트랜잭션은 기록하지 않음
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    // 최근 쓰기 사용자 ID (window 경과 후 자동 제거)
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReplicationRoutingDataSource(Duration readYourWritesWindow) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(readYourWritesWindow)
+                .build();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userId = getCurrentUserId();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (userId != null) {
+                markWriterAfterCommit(userId);
+            }
+            return DataSourceType.PRIMARY;
+        }
+
+        if (userId != null && recentWriters.getIfPresent(userId) != null) {
+            return DataSourceType.PRIMARY;
+        }
+        return DataSourceType.REPLICA;
+    }
+
+    /**
+     * 쓰기 트랜잭션 커밋 후 사용자를 최근 쓰기 사용자로 기록
+     * - 트랜잭션 밖(auto-commit)의 쓰기는 바로 기록
+     */
+    private void markWriterAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recentWriters.put(userId, Boolean.TRUE);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(userId, Boolean.TRUE);
+            }
+        });
+    }
+
+    /**
+     * 현재 요청의 인증된 사용자 ID (없으면 null)
+     */
+    private Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getUserId();
+        }
+        return null;
+    }
+}
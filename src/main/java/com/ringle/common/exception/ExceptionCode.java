@@ -15,6 +15,8 @@ public enum ExceptionCode {
 
     // 수업 조회 예외
     DATE_IN_THE_PAST(400, "DATE_001", "과거 날짜는 예약할 수 없습니다."),
+    INVALID_DATE_RANGE(400, "DATE_002", "조회 기간이 올바르지 않습니다. (최대 31일)"),
+    INVALID_TIME_WINDOW(400, "DATE_003", "조회 시간대가 올바르지 않습니다. (30분 단위, 시작 < 종료)"),
 
     // 수업 가능 시간 등록 / 삭제 예외
     INVALID_START_TIME(400, "AVAILABILITY_001", "시작 시간은 정각 또는 30분이어야 합니다."),
@@ -22,9 +24,23 @@ public enum ExceptionCode {
     AVAILABILITY_TIME_PASSED(400, "AVAILABILITY_003", "현재 시간 이전의 시간은 등록할 수 없습니다."),
     AVAILABILITY_NOT_FOUND(404, "AVAILABILITY_004", "수업 가능 시간을 찾을 수 없습니다."),
     AVAILABILITY_UNAUTHORIZED(403, "AVAILABILITY_005", "본인의 수업 시간만 삭제할 수 있습니다."),
+    INVALID_AVAILABILITY_RANGE(400, "AVAILABILITY_006", "등록 구간이 올바르지 않습니다. (30분 단위, 시작 < 종료, 최대 2000개 슬롯)"),
+    TOO_MANY_SUBSCRIBERS(503, "AVAILABILITY_007", "실시간 구독 연결이 많아 연결할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // 수업 신청 예외
     NO_AVAILABLE_TUTOR(409, "LESSON_001", "해당 시간대에 예약 가능한 튜터가 없습니다."),
+    BOOKING_CONFLICT(409, "LESSON_002", "다른 신청과 충돌했습니다. 다시 시도해주세요."),
+    INVALID_LESSON_SERIES(400, "LESSON_003", "반복 수업 회차 수가 올바르지 않습니다. (1~52회)"),
+    BOOKING_QUEUE_FULL(503, "LESSON_004", "신청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    BOOKING_TICKET_NOT_FOUND(404, "LESSON_005", "수업 신청 접수 내역을 찾을 수 없습니다."),
+    INVALID_CURSOR(400, "LESSON_006", "페이지 커서가 올바르지 않습니다."),
+
+    // 캘린더 피드 예외
+    CALENDAR_FEED_NOT_FOUND(404, "CALENDAR_001", "캘린더 피드를 찾을 수 없습니다."),
+
+    // 중복 요청 방지 예외
+    IDEMPOTENCY_KEY_REUSED(422, "IDEMPOTENCY_001", "같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다."),
+    IDEMPOTENCY_IN_PROGRESS(409, "IDEMPOTENCY_002", "같은 요청을 처리 중입니다. 잠시 후 다시 시도해주세요."),
 
     // 시스템 오류
     NULL_POINT_ERROR(500, "SYS_001", "NullPointerException 발생"),
@@ -0,0 +1,154 @@
+package com.ringle.common.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ringle.common.exception.BusinessException;
+import com.ringle.common.exception.ExceptionCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 처리
+ * - 같은 사용자가 같은 키로 다시 보낸 요청은 처리하지 않고 처음 요청의 응답을 그대로 반환 (락/DB 접근 없음)
+ * - 처음 요청이 아직 처리 중이면 그 결과를 기다렸다가 반환
+ * - 처리에 실패한 요청은 저장하지 않으므로 다음 재시도가 다시 처리
+ * - 처리 중 표시는 짧은 임대 시간(processing-lease)만 유지하고, 완료된 응답만 ttl 동안 보관
+ *   (처리 중에 노드가 죽어도 임대 시간이 지나면 재시도가 다시 처리)
+ * - 요청마다 owner 토큰으로 선점하여, 임대 시간이 지난 뒤 끝난 요청이 재시도의 처리 중 표시를 덮어쓰거나 지우지 않음
+ * - 같은 키로 다른 내용의 요청을 보내면 IDEMPOTENCY_KEY_REUSED
+ */
+@Slf4j
+@Component
+public class IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration waitTimeout;
+    private final Duration processingLease;
+
+    public IdempotencyService(IdempotencyStore idempotencyStore,
+                              ObjectMapper objectMapper,
+                              @Value("${ringle.idempotency.ttl:24h}") Duration ttl,
+                              @Value("${ringle.idempotency.wait-timeout:10s}") Duration waitTimeout,
+                              @Value("${ringle.idempotency.processing-lease:15s}") Duration processingLease) {
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.waitTimeout = waitTimeout;
+        this.processingLease = processingLease;
+    }
+
+    /**
+     * 키가 없으면 그대로 실행, 있으면 키 기준으로 한 번만 실행
+     *
+     * @param key     Idempotency-Key 헤더 값 (없으면 null)
+     * @param userId  키 충돌 방지를 위한 사용자 구분
+     * @param request 요청 본문 (같은 키의 다른 요청 판별용)
+     * @param action  실제 처리, 반환값이 응답 본문
+     * @return 응답 본문 (재시도인 경우 저장된 JSON)
+     */
+    public Object execute(String key, Long userId, Object request, Supplier<Object> action) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new BusinessException(ExceptionCode.NOT_VALID_ERROR);
+        }
+
+        String storeKey = userId + ":" + key;
+        String fingerprint = fingerprint(request);
+        String owner = UUID.randomUUID().toString();
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+
+        while (true) {
+            IdempotencyStore.Claim claim = idempotencyStore.claim(storeKey, owner, fingerprint, processingLease);
+            if (!claim.fingerprint().equals(fingerprint)) {
+                throw new BusinessException(ExceptionCode.IDEMPOTENCY_KEY_REUSED);
+            }
+
+            switch (claim.state()) {
+                case ACQUIRED -> {
+                    return executeAndStore(storeKey, owner, fingerprint, action);
+                }
+                case COMPLETED -> {
+                    return readResponse(claim.response());
+                }
+                case IN_PROGRESS -> {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        throw new BusinessException(ExceptionCode.IDEMPOTENCY_IN_PROGRESS);
+                    }
+                    awaitCompletion(storeKey, Duration.ofNanos(remaining));
+                }
+            }
+        }
+    }
+
+    /**
+     * 처리 후 응답 저장
+     * - 처리, 응답 직렬화, 저장 중 어디서든 실패하면 처리 중 표시를 지워 재시도가 바로 다시 처리하도록 함
+     * - 처리가 임대 시간보다 오래 걸려 다른 요청이 다시 선점했다면 저장/삭제하지 않고 기록만 함
+     */
+    private Object executeAndStore(String storeKey, String owner, String fingerprint, Supplier<Object> action) {
+        boolean completed = false;
+        try {
+            Object response = action.get();
+            if (!idempotencyStore.complete(storeKey, owner, fingerprint, writeJson(response), ttl)) {
+                log.warn("Idempotency processing lease expired before completion: key={}", storeKey);
+            }
+            completed = true;
+            return response;
+        } finally {
+            if (!completed) {
+                idempotencyStore.release(storeKey, owner);
+            }
+        }
+    }
+
+    private void awaitCompletion(String storeKey, Duration timeout) {
+        try {
+            idempotencyStore.awaitCompletion(storeKey, timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ExceptionCode.IDEMPOTENCY_IN_PROGRESS);
+        }
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(writeJson(request).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String writeJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화 실패", e);
+        }
+    }
+
+    private Object readResponse(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 응답 역직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.ringle.common.idempotency;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-Key 결과 저장소
+ * - ringle.idempotency.store 설정으로 구현체 선택 (memory / redis)
+ * - 키마다 요청 지문(fingerprint)과 처리 상태(처리 중 / 완료), 완료 시 응답 JSON 보관
+ * - 처리 중 표시에는 선점한 요청의 owner 토큰을 함께 저장하고, 완료/삭제는 owner가 같을 때만 반영
+ *   (lease 만료 후 재시도가 다시 선점한 키를 처음 요청이 덮어쓰거나 지우지 않도록 함)
+ */
+public interface IdempotencyStore {
+
+    /**
+     * 키 선점 시도
+     * - 키가 없으면 처리 중 상태로 저장하고 ACQUIRED 반환 (호출자가 실제 처리 담당)
+     * - 키가 있으면 현재 상태(IN_PROGRESS / COMPLETED)와 저장된 지문, 응답 반환
+     *
+     * @param owner 선점 요청 식별 토큰 (complete / release에 같은 값 전달)
+     * @param lease 처리 중 상태 유지 시간 (완료/삭제되지 않으면 이후 만료)
+     */
+    Claim claim(String key, String owner, String fingerprint, Duration lease);
+
+    /**
+     * 처리 완료 → 응답 저장 (대기 중인 재시도에 결과 전달)
+     *
+     * @param ttl 완료된 응답 보관 시간
+     * @return owner의 처리 중 표시가 남아 있어 저장했는지 (lease가 만료되어 다른 요청이 선점했으면 false)
+     */
+    boolean complete(String key, String owner, String fingerprint, String response, Duration ttl);
+
+    /**
+     * 처리 실패 → 키 삭제 (다음 재시도가 다시 처리)
+     *
+     * @return owner의 처리 중 표시가 남아 있어 삭제했는지
+     */
+    boolean release(String key, String owner);
+
+    /**
+     * 처리 중인 키가 완료 또는 삭제될 때까지 최대 timeout 동안 대기
+     */
+    void awaitCompletion(String key, Duration timeout) throws InterruptedException;
+
+    enum State {
+        ACQUIRED,    // 선점 성공 (처음 요청)
+        IN_PROGRESS, // 다른 요청이 처리 중
+        COMPLETED    // 처리 완료, 응답 저장됨
+    }
+
+    record Claim(State state, String fingerprint, String response) {
+
+        static Claim acquired(String fingerprint) {
+            return new Claim(State.ACQUIRED, fingerprint, null);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.ringle.common.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 인메모리 Idempotency 저장소 (Caffeine, 최대 개수 + 항목별 만료 시간 제한)
+ * - 처리 중 항목은 lease, 완료된 항목은 ttl 후 만료 (완료 시 항목을 교체하여 만료 시간 갱신)
+ * - 처리 중인 키의 재시도는 CompletableFuture로 완료를 기다림 (폴링 없음)
+ * - 완료/삭제는 computeIfPresent 안에서 owner가 같은 처리 중 항목일 때만 반영
+ * - 같은 노드로 재시도가 들어올 때만 유효하므로 단일 노드 배포 전용
+ */
+@Component
+@ConditionalOnProperty(name = "ringle.idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Cache<String, Entry> entries;
+
+    public InMemoryIdempotencyStore(@Value("${ringle.idempotency.maximum-size:100000}") long maximumSize) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                        return entry.lifetime.toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+                        return entry.lifetime.toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public Claim claim(String key, String owner, String fingerprint, Duration lease) {
+        Entry created = new Entry(owner, fingerprint, new CompletableFuture<>(), lease);
+        Entry existing = entries.asMap().putIfAbsent(key, created);
+        if (existing == null) {
+            return Claim.acquired(fingerprint);
+        }
+
+        String response = existing.response.getNow(null);
+        return (response != null)
+                ? new Claim(State.COMPLETED, existing.fingerprint, response)
+                : new Claim(State.IN_PROGRESS, existing.fingerprint, null);
+    }
+
+    @Override
+    public boolean complete(String key, String owner, String fingerprint, String response, Duration ttl) {
+        boolean[] applied = new boolean[1];
+        entries.asMap().computeIfPresent(key, (k, entry) -> {
+            if (!owner.equals(entry.owner)) return entry;
+            applied[0] = true;
+            entry.response.complete(response);
+            return new Entry(null, entry.fingerprint, entry.response, ttl);
+        });
+        return applied[0];
+    }
+
+    @Override
+    public boolean release(String key, String owner) {
+        Entry[] removed = new Entry[1];
+        entries.asMap().computeIfPresent(key, (k, entry) -> {
+            if (!owner.equals(entry.owner)) return entry;
+            removed[0] = entry;
+            return null;
+        });
+        if (removed[0] == null) return false;
+
+        removed[0].response.complete(null); // 대기 중인 재시도를 깨워 다시 선점하도록 함
+        return true;
+    }
+
+    @Override
+    public void awaitCompletion(String key, Duration timeout) throws InterruptedException {
+        Entry entry = entries.getIfPresent(key);
+        if (entry == null) return;
+
+        try {
+            entry.response.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            // 호출자가 상태를 다시 확인
+        }
+    }
+
+    /**
+     * @param owner 선점한 요청의 토큰 (완료된 항목은 null)
+     * @param lifetime 항목 만료 시간 (처리 중: lease / 완료: ttl)
+     */
+    private record Entry(String owner, String fingerprint, CompletableFuture<String> response, Duration lifetime) {
+    }
+}
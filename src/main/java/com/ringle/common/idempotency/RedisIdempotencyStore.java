@@ -0,0 +1,102 @@
+package com.ringle.common.idempotency;
+
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RBucket;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis Idempotency 저장소
+ * - 여러 노드가 같은 Redis를 바라보므로 다른 노드로 들어온 재시도도 결과를 공유
+ * - 값 형식: "P:<owner>:<지문>" (처리 중, lease 후 만료) / "C:<지문>:<응답 JSON>" (완료, ttl 후 만료)
+ * - 완료/삭제는 Lua 스크립트로 처리 중 값이 그대로일 때만 반영 (compare-and-set / compare-and-delete)
+ * - 처리 중인 키의 재시도는 짧은 간격으로 폴링하며 대기
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ringle.idempotency.store", havingValue = "redis")
+public class RedisIdempotencyStore implements IdempotencyStore {
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final long POLL_INTERVAL_MILLIS = 50;
+
+    // KEYS[1] 값이 ARGV[1]이면 ARGV[2]로 교체 (ARGV[3] 밀리초 후 만료)
+    private static final String COMPARE_AND_SET =
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1 end return 0";
+
+    // KEYS[1] 값이 ARGV[1]이면 삭제
+    private static final String COMPARE_AND_DELETE =
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "redis.call('DEL', KEYS[1]) return 1 end return 0";
+
+    private final RedissonClient redissonClient;
+
+    @Override
+    public Claim claim(String key, String owner, String fingerprint, Duration lease) {
+        RBucket<String> bucket = bucket(key);
+        if (bucket.setIfAbsent(inProgress(owner, fingerprint), lease)) {
+            return Claim.acquired(fingerprint);
+        }
+
+        Claim claim = parse(bucket.get());
+        // 조회 직전에 삭제/만료된 경우 → 선점 상태를 다시 시도하도록 처리 중으로 응답
+        return (claim != null) ? claim : new Claim(State.IN_PROGRESS, fingerprint, null);
+    }
+
+    @Override
+    public boolean complete(String key, String owner, String fingerprint, String response, Duration ttl) {
+        return eval(COMPARE_AND_SET, key, inProgress(owner, fingerprint),
+                "C:" + fingerprint + ":" + response, String.valueOf(ttl.toMillis()));
+    }
+
+    @Override
+    public boolean release(String key, String owner) {
+        RBucket<String> bucket = bucket(key);
+        String value = bucket.get();
+        // 지문은 처리 중 값에서 읽고, 삭제는 값이 그대로일 때만
+        if (value == null || !value.startsWith(inProgress(owner, ""))) return false;
+        return eval(COMPARE_AND_DELETE, key, value);
+    }
+
+    @Override
+    public void awaitCompletion(String key, Duration timeout) throws InterruptedException {
+        RBucket<String> bucket = bucket(key);
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            Claim claim = parse(bucket.get());
+            if (claim == null || claim.state() == State.COMPLETED) return;
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        }
+    }
+
+    private RBucket<String> bucket(String key) {
+        return redissonClient.getBucket(KEY_PREFIX + key, StringCodec.INSTANCE);
+    }
+
+    private boolean eval(String script, String key, Object... args) {
+        Boolean applied = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE, script, RScript.ReturnType.BOOLEAN,
+                List.of(KEY_PREFIX + key), args);
+        return Boolean.TRUE.equals(applied);
+    }
+
+    private static String inProgress(String owner, String fingerprint) {
+        return "P:" + owner + ":" + fingerprint;
+    }
+
+    private Claim parse(String value) {
+        if (value == null) return null;
+        if (value.startsWith("P:")) {
+            return new Claim(State.IN_PROGRESS, value.substring(value.indexOf(':', 2) + 1), null);
+        }
+        int separator = value.indexOf(':', 2);
+        return new Claim(State.COMPLETED, value.substring(2, separator), value.substring(separator + 1));
+    }
+}
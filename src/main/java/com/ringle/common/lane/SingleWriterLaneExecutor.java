@@ -0,0 +1,153 @@
+package com.ringle.common.lane;
+
+import com.ringle.common.exception.BusinessException;
+import com.ringle.common.exception.ExceptionCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 키별 단일 작성자(single-writer) 레인 실행기
+ * - 키를 고정된 수의 레인에 샤딩하고, 레인마다 가상 스레드 하나가 큐(mailbox)의 작업을 순서대로 실행
+ * - 같은 키의 작업은 항상 같은 레인에서 한 번에 하나씩 실행되므로 외부 락 없이 직렬화됨
+ * - 레인 큐가 가득 차거나 wait-timeout 동안 실행이 시작되지 않으면 거절 (BOOKING_QUEUE_FULL)
+ * - 레인은 처음 사용될 때 생성 (LANE 모드가 아니면 스레드를 만들지 않음)
+ * - 같은 프로세스 안에서만 직렬화되므로 단일 노드 배포에서만 사용
+ */
+@Slf4j
+@Component
+public class SingleWriterLaneExecutor {
+
+    private final AtomicReferenceArray<Lane> lanes;
+    private final int queueCapacity;
+    private final long waitTimeoutMillis;
+
+    private volatile boolean closed;
+
+    public SingleWriterLaneExecutor(@Value("${ringle.booking.lane.count:64}") int laneCount,
+                                    @Value("${ringle.booking.lane.queue-capacity:100}") int queueCapacity,
+                                    @Value("${ringle.booking.lane.wait-timeout:5s}") Duration waitTimeout) {
+        this.lanes = new AtomicReferenceArray<>(laneCount);
+        this.queueCapacity = queueCapacity;
+        this.waitTimeoutMillis = waitTimeout.toMillis();
+    }
+
+    /**
+     * 키에 해당하는 레인에서 작업을 실행하고 결과를 기다림
+     * - 호출 스레드의 SecurityContext를 레인 스레드로 전달
+     * - 작업에서 발생한 RuntimeException은 그대로 호출자에게 전달
+     * - wait-timeout까지 시작되지 않은 작업은 취소 후 BOOKING_QUEUE_FULL
+     *   (이미 실행 중인 작업은 커밋 여부를 호출자에게 알려야 하므로 끝날 때까지 대기)
+     */
+    public <T> T execute(long key, Callable<T> task) {
+        if (closed) {
+            throw new BusinessException(ExceptionCode.BOOKING_QUEUE_FULL);
+        }
+
+        FutureTask<T> future = new FutureTask<>(new DelegatingSecurityContextCallable<>(task));
+        if (!laneOf(key).queue.offer(future)) {
+            throw new BusinessException(ExceptionCode.BOOKING_QUEUE_FULL);
+        }
+
+        try {
+            try {
+                return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (future.cancel(false)) {
+                    throw new BusinessException(ExceptionCode.BOOKING_QUEUE_FULL);
+                }
+                return future.get();
+            }
+        } catch (InterruptedException e) {
+            // 아직 시작 전이면 실행하지 않음 (실행 중인 작업은 끝까지 수행)
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("레인 작업 대기 중 인터럽트 발생", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("레인 작업 실행 중 예외 발생", e.getCause());
+        } catch (CancellationException e) {
+            throw new RuntimeException("레인 작업이 취소되었습니다.", e);
+        }
+    }
+
+    /**
+     * 키에 해당하는 레인 (없으면 생성 후 작업 스레드 시작)
+     */
+    private Lane laneOf(long key) {
+        int index = Math.floorMod(Long.hashCode(key), lanes.length());
+        Lane lane = lanes.get(index);
+        if (lane != null) return lane;
+
+        Lane created = new Lane("booking-lane-" + index, queueCapacity);
+        if (lanes.compareAndSet(index, null, created)) {
+            created.worker.start();
+            return created;
+        }
+        return lanes.get(index);
+    }
+
+    /**
+     * 작업 스레드를 멈추고 큐에 남은 작업을 취소 (대기 중인 호출자는 즉시 예외로 반환)
+     */
+    @PreDestroy
+    public void shutdown() {
+        closed = true;
+        for (int i = 0; i < lanes.length(); i++) {
+            Lane lane = lanes.get(i);
+            if (lane == null) continue;
+
+            lane.worker.interrupt();
+            List<FutureTask<?>> pending = new ArrayList<>();
+            lane.queue.drainTo(pending);
+            pending.forEach(future -> future.cancel(false));
+        }
+    }
+
+    /**
+     * 레인 하나 = 제한된 크기의 큐 + 큐를 순서대로 비우는 가상 스레드
+     */
+    private static class Lane {
+
+        private final BlockingQueue<FutureTask<?>> queue;
+        private final Thread worker;
+
+        Lane(String name, int queueCapacity) {
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.worker = Thread.ofVirtual().name(name).unstarted(this::drain);
+        }
+
+        private void drain() {
+            while (!Thread.currentThread().isInterrupted()) {
+                FutureTask<?> task;
+                try {
+                    task = queue.take();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                try {
+                    task.run(); // FutureTask가 예외를 결과로 보관, 취소된 작업은 실행하지 않음
+                } catch (Throwable t) {
+                    log.error("Booking lane task failed", t);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.ringle.common.lock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * JVM 내부 스트라이프 락
+ * - 키를 고정된 수의 ReentrantLock(stripe)에 해시로 매핑, 네트워크 왕복 없음
+ * - 다른 키가 같은 stripe에 걸리면 함께 대기 (stripe 수를 늘리면 줄어듦)
+ * - 같은 프로세스 안에서만 유효하므로 단일 노드 배포 전용, leaseTime은 사용하지 않음 (작업 종료 시 해제)
+ */
+@Component
+@ConditionalOnProperty(name = "ringle.lock.provider", havingValue = "jvm")
+public class JvmLockProvider implements LockProvider {
+
+    private final ReentrantLock[] stripes;
+
+    public JvmLockProvider(@Value("${ringle.lock.jvm.stripes:1024}") int stripeCount) {
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public <T> T runWithLocks(SortedSet<String> keys, int waitTime, int leaseTime, LockExecutor<T> executor) {
+        // 키 순서가 아닌 stripe 번호 순서로 획득해야 stripe 충돌 시에도 교착되지 않음
+        SortedSet<Integer> indexes = new TreeSet<>();
+        keys.forEach(key -> indexes.add(Math.floorMod(key.hashCode(), stripes.length)));
+
+        Deque<ReentrantLock> held = new ArrayDeque<>(indexes.size());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(waitTime);
+        try {
+            for (int index : indexes) {
+                ReentrantLock lock = stripes[index];
+                if (!lock.tryLock(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    throw new LockAcquisitionException();
+                }
+                held.push(lock);
+            }
+            return executor.execute();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Lock 처리 중 예외 발생", e);
+        } finally {
+            while (!held.isEmpty()) {
+                held.pop().unlock(); // 역순 해제
+            }
+        }
+    }
+}
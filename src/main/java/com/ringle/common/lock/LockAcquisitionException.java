@@ -0,0 +1,18 @@
+package com.ringle.common.lock;
+
+/**
+ * waitTime 안에 락을 획득하지 못했을 때 발생하는 예외
+ */
+public class LockAcquisitionException extends RuntimeException {
+
+    public LockAcquisitionException() {
+        super("Lock 획득 실패: 중복 요청 또는 처리 중입니다.");
+    }
+
+    /**
+     * 락 저장소 오류로 획득하지 못한 경우
+     */
+    public LockAcquisitionException(Throwable cause) {
+        super("Lock 획득 실패: 락 저장소 오류", cause);
+    }
+}
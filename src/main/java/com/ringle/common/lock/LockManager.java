@@ -0,0 +1,107 @@
+package com.ringle.common.lock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 락 유틸리티
+ * - 동시에 같은 리소스를 수정하지 않도록 락으로 보호
+ * - 락 획득 시 작업 실행, 실패 시 예외 처리
+ * - 실제 락은 설정된 LockProvider(Redisson / JVM / MySQL)가 담당
+ * - 대기/보유 시간, 획득 실패, lease 만료를 키 접두사(lesson 등) 태그로 기록
+ *   (lock.wait, lock.hold, lock.timeouts, lock.lease.expired)
+ */
+@Component
+@RequiredArgsConstructor
+public class LockManager {
+
+    private final LockProvider lockProvider;
+    private final MeterRegistry meterRegistry;
+
+    public <T> T runWithLock(String key, int waitTime, int leaseTime, LockProvider.LockExecutor<T> executor) {
+        return runWithLocks(List.of(key), waitTime, leaseTime, executor);
+    }
+
+    /**
+     * 여러 키를 한 번에 잠그고 작업 실행 (MultiLock)
+     * - 키를 정렬/중복 제거 후 같은 순서로 획득하므로 겹치는 키를 가진 요청끼리 교착되지 않음
+     * - 전부 획득하거나 전부 실패 (일부만 잡은 상태로 작업하지 않음)
+     * - 키가 겹치지 않는 요청끼리는 서로 기다리지 않음
+     */
+    public <T> T runWithLocks(Collection<String> keys, int waitTime, int leaseTime, LockProvider.LockExecutor<T> executor) {
+        SortedSet<String> sortedKeys = new TreeSet<>(keys);
+        String prefix = keyPrefix(sortedKeys.first());
+
+        long requested = System.nanoTime();
+        long[] acquired = new long[1];
+        try {
+            return lockProvider.runWithLocks(sortedKeys, waitTime, leaseTime, () -> {
+                // 작업이 시작됐다면 락은 전부 획득된 상태
+                acquired[0] = System.nanoTime();
+                waitTimer(prefix, "acquired").record(acquired[0] - requested, TimeUnit.NANOSECONDS);
+                try {
+                    return executor.execute();
+                } finally {
+                    recordHold(prefix, System.nanoTime() - acquired[0], leaseTime);
+                }
+            });
+        } catch (LockAcquisitionException e) {
+            waitTimer(prefix, "timeout").record(System.nanoTime() - requested, TimeUnit.NANOSECONDS);
+            Counter.builder("lock.timeouts")
+                    .description("waitTime 안에 락을 획득하지 못한 횟수")
+                    .tag("prefix", prefix)
+                    .register(meterRegistry)
+                    .increment();
+            throw e;
+        }
+    }
+
+    private void recordHold(String prefix, long heldNanos, int leaseTime) {
+        Timer.builder("lock.hold")
+                .description("락을 보유한 채 작업을 수행한 시간")
+                .tag("prefix", prefix)
+                .publishPercentileHistogram()
+                .publishPercentiles(0.99, 0.999)
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry)
+                .record(heldNanos, TimeUnit.NANOSECONDS);
+
+        // 작업이 끝나기 전에 lease가 만료되면 다른 요청이 같은 리소스를 동시에 수정했을 수 있음
+        if (lockProvider.hasLease() && heldNanos > TimeUnit.SECONDS.toNanos(leaseTime)) {
+            Counter.builder("lock.lease.expired")
+                    .description("작업이 끝나기 전에 lease가 만료된 횟수")
+                    .tag("prefix", prefix)
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    private Timer waitTimer(String prefix, String outcome) {
+        return Timer.builder("lock.wait")
+                .description("락 획득까지 대기한 시간 (outcome: acquired / timeout)")
+                .tag("prefix", prefix)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .publishPercentiles(0.99, 0.999)
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry);
+    }
+
+    /**
+     * 키 접두사 (lesson:slot:1:... → lesson), 태그 값 수를 제한하기 위해 첫 구간만 사용
+     */
+    private static String keyPrefix(String key) {
+        int separator = key.indexOf(':');
+        return (separator < 0) ? key : key.substring(0, separator);
+    }
+}
@@ -0,0 +1,30 @@
+package com.ringle.common.lock;
+
+import java.util.SortedSet;
+
+/**
+ * 락 구현체 SPI
+ * - ringle.lock.provider 설정으로 구현체 선택 (redisson / jvm / mysql)
+ * - LockManager가 키 정렬/중복 제거 후 호출하므로, 구현체는 전달받은 순서대로 획득하면 교착되지 않음
+ */
+public interface LockProvider {
+
+    /**
+     * 모든 키의 락을 획득한 뒤 작업 실행, 작업이 끝나면 전부 해제
+     * - waitTime(초) 안에 전부 획득하지 못하면 작업을 실행하지 않고 LockAcquisitionException 발생
+     * - leaseTime(초): 자동 해제 시간 (구현체가 지원하는 경우)
+     */
+    <T> T runWithLocks(SortedSet<String> keys, int waitTime, int leaseTime, LockExecutor<T> executor);
+
+    /**
+     * leaseTime이 지나면 작업 중이어도 락이 자동 해제되는 구현체인지
+     */
+    default boolean hasLease() {
+        return false;
+    }
+
+    @FunctionalInterface
+    interface LockExecutor<T> {
+        T execute(); // 실제 실행할 작업 정의
+    }
+}
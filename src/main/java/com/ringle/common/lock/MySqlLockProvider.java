@@ -0,0 +1,128 @@
+package com.ringle.common.lock;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.SortedSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MySQL 네임드 락 (GET_LOCK)
+ * - Redis 없이 DB만으로 노드 간 락 공유
+ * - 네임드 락은 세션(커넥션)에 묶이므로, 락 전용 커넥션을 작업이 끝날 때까지 붙잡음
+ * - 락 커넥션은 전용 풀(ringle.lock.mysql.pool-size)에서 가져옴
+ *   (트랜잭션과 같은 풀을 쓰면 락 커넥션을 쥔 요청들이 트랜잭션 커넥션을 기다리며 풀이 교착됨)
+ * - 모든 키가 waitTime 하나를 나눠 쓰도록 키마다 남은 시간만큼만 대기
+ * - leaseTime 대신 커넥션이 끊기면 MySQL이 락을 해제
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ringle.lock.provider", havingValue = "mysql")
+public class MySqlLockProvider implements LockProvider {
+
+    // MySQL 락 이름 최대 길이
+    private static final int MAX_LOCK_NAME_LENGTH = 64;
+
+    private final DataSource dataSource;
+
+    /**
+     * spring.datasource 접속 정보로 락 전용 커넥션 풀 생성
+     * - 풀이 가득 차면 connection-timeout 후 락 획득 실패로 처리
+     */
+    @Autowired
+    public MySqlLockProvider(DataSourceProperties properties,
+                             @Value("${ringle.lock.mysql.pool-size:10}") int poolSize,
+                             @Value("${ringle.lock.mysql.connection-timeout:3s}") Duration connectionTimeout) {
+        HikariDataSource lockDataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        lockDataSource.setPoolName("mysql-lock");
+        lockDataSource.setMaximumPoolSize(poolSize);
+        lockDataSource.setMinimumIdle(0);
+        lockDataSource.setConnectionTimeout(connectionTimeout.toMillis());
+        this.dataSource = lockDataSource;
+    }
+
+    MySqlLockProvider(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (dataSource instanceof HikariDataSource hikari) {
+            hikari.close();
+        }
+    }
+
+    @Override
+    public <T> T runWithLocks(SortedSet<String> keys, int waitTime, int leaseTime, LockExecutor<T> executor) {
+        // 락 커넥션 대기 시간도 waitTime에 포함
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(waitTime);
+        Connection connection = openConnection();
+        try {
+            for (String key : keys) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || !getLock(connection, key, remaining)) {
+                    throw new LockAcquisitionException();
+                }
+            }
+            return executor.execute();
+        } finally {
+            releaseAll(connection);
+        }
+    }
+
+    private Connection openConnection() {
+        try {
+            return dataSource.getConnection();
+        } catch (SQLException e) {
+            throw new LockAcquisitionException(e);
+        }
+    }
+
+    /**
+     * GET_LOCK 대기 시간은 초 단위이므로 남은 시간을 올림하여 전달
+     */
+    private boolean getLock(Connection connection, String key, long remainingNanos) {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            statement.setString(1, toLockName(key));
+            statement.setLong(2, (remainingNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+            try (ResultSet rs = statement.executeQuery()) {
+                // 1: 획득, 0: 시간 초과, NULL: 오류
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        } catch (SQLException e) {
+            throw new LockAcquisitionException(e);
+        }
+    }
+
+    /**
+     * 획득한 락을 모두 해제하고 커넥션 반납
+     * - 작업 결과를 바꾸지 않도록 해제 실패는 기록만 함 (커넥션이 끊긴 경우 MySQL이 락을 해제)
+     */
+    private void releaseAll(Connection connection) {
+        try (connection; PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_ALL_LOCKS()")) {
+            statement.execute();
+        } catch (SQLException e) {
+            log.warn("Failed to release MySQL named locks", e);
+        }
+    }
+
+    /**
+     * 64자를 넘는 키는 해시로 축약 (키 자체는 정렬 순서대로 획득하므로 순서에 영향 없음)
+     */
+    private String toLockName(String key) {
+        if (key.length() <= MAX_LOCK_NAME_LENGTH) return key;
+        return key.substring(0, MAX_LOCK_NAME_LENGTH - 9) + "#" + Integer.toHexString(key.hashCode());
+    }
+}
@@ -0,0 +1,73 @@
+package com.ringle.common.lock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.SortedSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redisson 분산 락 (기본값)
+ * - 여러 노드가 같은 Redis를 바라보므로 다중 노드 배포에서 사용
+ * - 락마다 Redis 왕복이 발생하고, leaseTime이 지나면 작업 중이어도 자동 해제
+ * - 해제는 아직 보유 중인 락만 (lease 만료 후 해제 오류로 이미 커밋된 작업을 실패로 만들지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ringle.lock.provider", havingValue = "redisson", matchIfMissing = true)
+public class RedissonLockProvider implements LockProvider {
+
+    private final RedissonClient redissonClient;
+
+    @Override
+    public boolean hasLease() {
+        return true;
+    }
+
+    @Override
+    public <T> T runWithLocks(SortedSet<String> keys, int waitTime, int leaseTime, LockExecutor<T> executor) {
+        RLock[] locks = keys.stream()
+                .map(redissonClient::getLock)
+                .toArray(RLock[]::new);
+        RLock multiLock = redissonClient.getMultiLock(locks);
+
+        boolean acquired = false;
+        try {
+            // waitTime 안에 전체 락 획득 시도, leaseTime 후 자동 해제
+            acquired = multiLock.tryLock(waitTime, leaseTime, TimeUnit.SECONDS);
+            if (!acquired) {
+                throw new LockAcquisitionException();
+            }
+            return executor.execute();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Lock 처리 중 예외 발생", e);
+        } finally {
+            if (acquired) {
+                unlockHeld(locks);
+            }
+        }
+    }
+
+    /**
+     * 현재 스레드가 보유 중인 락만 해제
+     * - lease가 만료된 락은 이미 해제되었거나 다른 요청이 보유 중 (만료 횟수는 lock.lease.expired로 기록)
+     * - 확인과 해제 사이에 만료되는 경우의 오류도 기록만 함
+     */
+    private void unlockHeld(RLock[] locks) {
+        for (RLock lock : locks) {
+            try {
+                if (lock.isHeldByCurrentThread()) {
+                    lock.unlock();
+                }
+            } catch (IllegalMonitorStateException e) {
+                log.warn("Lock lease expired before release: {}", lock.getName());
+            }
+        }
+    }
+}
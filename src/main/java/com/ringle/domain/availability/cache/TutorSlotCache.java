@@ -0,0 +1,64 @@
+package com.ringle.domain.availability.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.ringle.domain.availability.dto.response.TutorSlotDto;
+import com.ringle.domain.availability.event.AvailabilityChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 날짜별 튜터 수업 가능 시간 캐시
+ * - 최대 개수 + 저장 후 만료 시간 기준으로 제거
+ * - 해당 날짜의 슬롯 변경 이벤트(커밋 후) 수신 시 즉시 무효화
+ * - 적중/미스/제거 횟수는 Micrometer 지표(cache.gets, cache.evictions)로 노출
+ */
+@Component
+public class TutorSlotCache {
+
+    public static final String CACHE_NAME = "tutorSlotsByDate";
+
+    private final Cache<LocalDate, List<TutorSlotDto>> cache;
+
+    public TutorSlotCache(@Value("${ringle.availability.tutor-slot-cache.maximum-size:366}") long maximumSize,
+                          @Value("${ringle.availability.tutor-slot-cache.expire-after-write:30s}") Duration expireAfterWrite,
+                          MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 적재
+     * - 같은 날짜에 대한 동시 적재는 한 번만 수행
+     */
+    public List<TutorSlotDto> get(LocalDate date, Function<LocalDate, List<TutorSlotDto>> loader) {
+        return cache.get(date, loader);
+    }
+
+    /**
+     * 슬롯 변경 날짜 캐시 무효화
+     * - 적재 중인 키는 적재 완료 후 제거되므로 커밋 이전 데이터가 남지 않음
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAvailabilityChanged(AvailabilityChangedEvent event) {
+        cache.invalidate(event.date());
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
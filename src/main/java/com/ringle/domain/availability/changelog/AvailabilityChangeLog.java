@@ -0,0 +1,73 @@
+package com.ringle.domain.availability.changelog;
+
+import com.ringle.domain.availability.event.AvailabilityChangedEvent;
+import com.ringle.domain.availability.repository.AvailabilityJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 수업 가능 시간 변경 로그 기록
+ * - 슬롯 변경 이벤트를 트랜잭션별로 모았다가 커밋 직전(beforeCommit)에 같은 트랜잭션에서 일괄 INSERT
+ * - 변경과 로그가 함께 커밋/롤백되고, 순번 부여부터 커밋까지의 구간이 짧아 순번과 커밋 순서가 거의 일치
+ * - 트랜잭션 밖에서 발행된 이벤트는 바로 기록
+ */
+@Component
+@RequiredArgsConstructor
+public class AvailabilityChangeLog {
+
+    private final AvailabilityJdbcRepository availabilityJdbcRepository;
+
+    /**
+     * 슬롯 변경 이벤트 수신 (발행한 스레드의 트랜잭션 안에서 실행)
+     */
+    @EventListener
+    public void onAvailabilityChanged(AvailabilityChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            availabilityJdbcRepository.insertChanges(List.of(event));
+            return;
+        }
+
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.events.add(event);
+    }
+
+    /**
+     * 트랜잭션 하나에서 발생한 변경 이벤트 (발행 순서 유지)
+     */
+    private class PendingChanges implements TransactionSynchronization {
+
+        private final List<AvailabilityChangedEvent> events = new ArrayList<>();
+
+        // REQUIRES_NEW 등으로 트랜잭션이 중단되면 새 트랜잭션의 이벤트와 섞이지 않도록 잠시 해제
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(AvailabilityChangeLog.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(AvailabilityChangeLog.this, this);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            availabilityJdbcRepository.insertChanges(events);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(AvailabilityChangeLog.this);
+        }
+    }
+}
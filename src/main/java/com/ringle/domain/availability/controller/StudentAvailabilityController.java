@@ -1,17 +1,30 @@
 package com.ringle.domain.availability.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ringle.domain.availability.dto.response.AvailabilityChangesResponseDto;
+import com.ringle.domain.availability.dto.response.DailyTimeSlotDto;
 import com.ringle.domain.availability.dto.response.TimeSlotDto;
 import com.ringle.domain.availability.dto.response.TutorSlotDto;
+import com.ringle.domain.availability.service.AvailabilityChangeService;
 import com.ringle.domain.availability.service.StudentAvailabilityService;
+import com.ringle.domain.availability.sse.AvailabilitySlotBroadcaster;
+import com.ringle.domain.availability.version.AvailabilityVersionRegistry;
 import com.ringle.domain.lesson.entity.enums.DurationType;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.Map;
 
@@ -19,6 +32,9 @@ import java.util.Map;
  * 학생 전용 수업 가능 시간 조회 API
  * - 날짜/수업 길이 기반 시간대 조회
  * - 튜터별 수업 가능 시간 조회
+ * - 날짜 단위 조회는 날짜별 버전 기반 ETag 지원 (If-None-Match 일치 시 304)
+ * - 변경 순번 기반 델타 동기화 (마지막으로 받은 순번 이후 변경만 조회)
+ * - 날짜별 슬롯 변경 실시간 전송 (SSE)
  */
 @RestController
 @RequestMapping("/api/student/availability")
@@ -26,6 +42,10 @@ import java.util.Map;
 public class StudentAvailabilityController {
 
     private final StudentAvailabilityService studentAvailabilityService;
+    private final AvailabilityVersionRegistry availabilityVersionRegistry;
+    private final AvailabilityChangeService availabilityChangeService;
+    private final AvailabilitySlotBroadcaster availabilitySlotBroadcaster;
+    private final ObjectMapper objectMapper;
 
     /**
      * 날짜별 수업 가능 시간대 조회
@@ -36,12 +56,39 @@ public class StudentAvailabilityController {
     @GetMapping("/slots")
     public ResponseEntity<?> getAvailableTimeSlots(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
-            @RequestParam @NotNull DurationType durationType
+            @RequestParam @NotNull DurationType durationType,
+            WebRequest webRequest
     ) {
+        // 날짜 검증 후, 해당 날짜 변경이 없으면 조회 없이 304 응답
+        studentAvailabilityService.validateSlotDate(date);
+        if (webRequest.checkNotModified(availabilityVersionRegistry.etag(date))) {
+            return null;
+        }
+
         List<TimeSlotDto> result = studentAvailabilityService.getAvailableTimeSlots(date, durationType);
         return ResponseEntity.ok(Map.of("code", 200, "data", result));
     }
 
+    /**
+     * 기간별 수업 가능 시간대 조회
+     * - 캘린더 화면에서 일주일/한 달 단위로 한 번에 조회
+     * - 시간대(windowStart ~ windowEnd, HH:mm) 지정 시 해당 시간대 안에서 끝나는 수업만 반환
+     */
+    @Operation(summary = "기간별 수업 가능 시간대 조회", description = "입력한 기간(최대 31일)과 수업 길이에 따라 날짜별 수업 가능한 시간대 목록을 반환합니다.")
+    @GetMapping("/slots/range")
+    public ResponseEntity<?> getAvailableTimeSlotsInRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam @NotNull DurationType durationType,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime windowStart,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime windowEnd
+    ) {
+        List<DailyTimeSlotDto> result = studentAvailabilityService.getAvailableTimeSlotsInRange(
+                from, to, durationType, windowStart, windowEnd
+        );
+        return ResponseEntity.ok(Map.of("code", 200, "data", result));
+    }
+
     /**
      * 특정 날짜 기준 튜터별 수업 가능 시간대 조회
      * - 예약되지 않은 수업 시간 기준
@@ -49,9 +96,78 @@ public class StudentAvailabilityController {
     @Operation(summary = "튜터별 수업 가능 시간 조회", description = "입력한 날짜 기준으로 수업 가능한 튜터 목록과 시간대를 반환합니다.")
     @GetMapping("/tutors")
     public ResponseEntity<?> getTutorSlotsByDate(
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            WebRequest webRequest
     ) {
+        // 날짜 검증 후, 해당 날짜 변경이 없으면 조회 없이 304 응답
+        studentAvailabilityService.validateSlotDate(date);
+        if (webRequest.checkNotModified(availabilityVersionRegistry.etag(date))) {
+            return null;
+        }
+
         List<TutorSlotDto> result = studentAvailabilityService.getTutorAvailableSlotsByDate(date);
         return ResponseEntity.ok(Map.of("code", 200, "data", result));
     }
+
+    /**
+     * 특정 날짜 기준 튜터별 수업 가능 시간대 스트리밍 조회
+     * - NDJSON 형식으로 튜터 한 명당 한 줄씩, 튜터 ID 순으로 전송
+     * - 수업 가능한 튜터가 많은 날짜에도 전체 목록을 메모리에 모으지 않음
+     */
+    @Operation(summary = "튜터별 수업 가능 시간 스트리밍 조회", description = "입력한 날짜 기준으로 수업 가능한 튜터와 시간대를 NDJSON(튜터당 한 줄) 형식으로 반환합니다.")
+    @GetMapping(value = "/tutors/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTutorSlotsByDate(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            WebRequest webRequest
+    ) {
+        // 날짜 검증 후, 해당 날짜 변경이 없으면 조회 없이 304 응답
+        studentAvailabilityService.validateSlotDate(date);
+        if (webRequest.checkNotModified(availabilityVersionRegistry.etag(date))) {
+            return null;
+        }
+
+        StreamingResponseBody body = out -> studentAvailabilityService.streamTutorAvailableSlotsByDate(date, slot -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(slot));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * 수업 가능 시간 변경분 조회 (델타 동기화)
+     * - since 이후의 등록/삭제/예약 변경을 순번 오름차순으로 반환
+     * - since 미지정 시 현재 순번만 반환 (날짜 전체 조회 직후 동기화 시작점)
+     * - 응답의 nextSince를 다음 요청의 since로 사용, hasMore = true면 바로 이어서 조회
+     */
+    @Operation(summary = "수업 가능 시간 변경분 조회", description = "since 순번 이후 수업 가능 시간의 등록/삭제/예약 변경만 순번 순으로 반환합니다. (최대 500건)")
+    @GetMapping("/changes")
+    public ResponseEntity<?> getChanges(
+            @RequestParam(required = false) Long since,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        AvailabilityChangesResponseDto result = availabilityChangeService.getChanges(since, limit);
+        return ResponseEntity.ok(Map.of("code", 200, "data", result));
+    }
+
+    /**
+     * 날짜별 슬롯 변경 실시간 구독 (SSE)
+     * - slot-added / slot-removed / slot-booked 이벤트로 변경된 슬롯 전달 (tutorId 지정 시 해당 튜터만)
+     * - 구독 후 날짜 조회를 한 번 하고, 이후에는 이벤트로 화면 갱신 (주기적 재조회 불필요)
+     * - 연결이 끊기면 재연결 후 다시 조회
+     */
+    @Operation(summary = "슬롯 변경 실시간 구독", description = "입력한 날짜(선택: 튜터)의 수업 가능 시간 등록/삭제/예약을 Server-Sent Events로 전달합니다.")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeSlotChanges(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) Long tutorId
+    ) {
+        studentAvailabilityService.validateSlotDate(date);
+        return availabilitySlotBroadcaster.subscribe(date, tutorId);
+    }
 }
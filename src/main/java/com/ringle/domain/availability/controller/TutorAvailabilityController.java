@@ -1,7 +1,9 @@
 package com.ringle.domain.availability.controller;
 
 import com.ringle.domain.availability.dto.request.AvailabilityRequestDto;
+import com.ringle.domain.availability.dto.request.BulkAvailabilityRequestDto;
 import com.ringle.domain.availability.dto.response.AvailabilityResponseDto;
+import com.ringle.domain.availability.dto.response.BulkAvailabilityResponseDto;
 import com.ringle.domain.availability.service.TutorAvailabilityService;
 import com.ringle.security.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
@@ -37,6 +39,20 @@ public class TutorAvailabilityController {
         return ResponseEntity.ok(Map.of("code", 200, "message", "수업 가능 시간이 등록되었습니다."));
     }
 
+    /**
+     * 수업 가능 시간 일괄 등록
+     * - 여러 구간을 30분 슬롯으로 나눠 한 번에 등록, 이미 등록된 슬롯은 건너뜀
+     */
+    @Operation(summary = "수업 가능 시간 일괄 등록", description = "여러 시간 구간(30분 단위)을 한 번에 등록합니다. 이미 등록된 슬롯은 건너뛰고 등록/건너뛴 슬롯 수를 반환합니다.")
+    @PostMapping("/bulk")
+    public ResponseEntity<?> createBulk(
+            @Valid @RequestBody BulkAvailabilityRequestDto request,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        BulkAvailabilityResponseDto result = tutorAvailabilityService.createAvailabilities(request, userDetails.getUser());
+        return ResponseEntity.ok(Map.of("code", 200, "data", result));
+    }
+
     /**
      * 수업 가능 시간 삭제
      */
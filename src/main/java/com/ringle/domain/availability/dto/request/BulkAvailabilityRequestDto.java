@@ -0,0 +1,33 @@
+package com.ringle.domain.availability.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 수업 가능 시간 일괄 등록 요청 DTO
+ * - 여러 구간 [startTime, endTime)을 받아 30분 슬롯으로 나눠 등록
+ */
+@Data
+public class BulkAvailabilityRequestDto {
+
+    @NotEmpty(message = "등록 구간은 필수입니다.")
+    @Size(max = 100, message = "등록 구간은 최대 100개입니다.")
+    @Valid
+    private List<Range> ranges;
+
+    @Data
+    public static class Range {
+
+        @NotNull(message = "시작 시간은 필수입니다.")
+        private LocalDateTime startTime;
+
+        @NotNull(message = "종료 시간은 필수입니다.")
+        private LocalDateTime endTime;
+    }
+}
@@ -0,0 +1,21 @@
+package com.ringle.domain.availability.dto.response;
+
+import com.ringle.domain.availability.entity.enums.AvailabilityChangeType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수업 가능 시간 변경 한 건
+ * - seq: 변경 순번 (오름차순으로 적용)
+ */
+@Getter
+@Builder
+public class AvailabilityChangeDto {
+    private Long seq;
+    private AvailabilityChangeType type;
+    private Long availabilityId;
+    private Long tutorId;
+    private LocalDateTime startTime;
+}
@@ -0,0 +1,19 @@
+package com.ringle.domain.availability.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 수업 가능 시간 변경분 조회 응답 DTO
+ * - nextSince: 다음 요청의 since 값 (마지막으로 전달한 순번)
+ * - hasMore: 바로 이어서 조회할 변경이 더 있는지 여부
+ */
+@Getter
+@Builder
+public class AvailabilityChangesResponseDto {
+    private List<AvailabilityChangeDto> changes;
+    private Long nextSince;
+    private boolean hasMore;
+}
@@ -0,0 +1,16 @@
+package com.ringle.domain.availability.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 수업 가능 시간 일괄 등록 응답 DTO
+ * - skippedCount: 이미 등록되어 있어 건너뛴 슬롯 수
+ */
+@Getter
+@Builder
+public class BulkAvailabilityResponseDto {
+    private int requestedCount;
+    private int createdCount;
+    private int skippedCount;
+}
@@ -0,0 +1,17 @@
+package com.ringle.domain.availability.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 날짜별 수업 가능 시간대 응답 DTO
+ */
+@Getter
+@Builder
+public class DailyTimeSlotDto {
+    private LocalDate date;
+    private List<TimeSlotDto> slots; // 수업 가능한 시간대 (없으면 빈 배열)
+}
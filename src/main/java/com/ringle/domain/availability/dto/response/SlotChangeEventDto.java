@@ -0,0 +1,19 @@
+package com.ringle.domain.availability.dto.response;
+
+import com.ringle.domain.availability.entity.enums.AvailabilityChangeType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 실시간 슬롯 변경 이벤트 (SSE data)
+ */
+@Getter
+@Builder
+public class SlotChangeEventDto {
+    private AvailabilityChangeType type;
+    private Long availabilityId;
+    private Long tutorId;
+    private LocalDateTime startTime;
+}
@@ -8,9 +8,13 @@ import java.time.LocalDateTime;
 
 /**
  * 튜터 수업 가능 시간 엔티티
+ * - 튜터별 같은 시작 시각은 하나만 등록 가능 (유니크 제약, 튜터별 시간 조회 인덱스 겸용)
+ * - (start_time, is_booked): 기간별 예약 가능 슬롯 조회용 인덱스
  */
 @Entity
-@Table(name = "availabilities")
+@Table(name = "availabilities",
+        uniqueConstraints = @UniqueConstraint(name = "uk_availabilities_tutor_start", columnNames = {"tutor_id", "start_time"}),
+        indexes = @Index(name = "idx_availabilities_start_booked", columnList = "start_time, is_booked"))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,44 @@
+package com.ringle.domain.availability.entity;
+
+import com.ringle.domain.availability.entity.enums.AvailabilityChangeType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수업 가능 시간 변경 로그 엔티티 (추가 전용)
+ * - 슬롯 등록/삭제/예약을 변경이 일어난 트랜잭션 안에서 기록 (AvailabilityChangeLog)
+ * - id가 단조 증가하는 변경 순번 (클라이언트는 마지막으로 받은 순번 이후만 조회)
+ * - 슬롯 삭제 후에도 로그는 남아야 하므로 외래 키 없이 ID만 보관
+ */
+@Entity
+@Table(name = "availability_changes")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AvailabilityChange {
+
+    // 변경 순번
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private AvailabilityChangeType type;
+
+    @Column(nullable = false)
+    private Long availabilityId;
+
+    @Column(nullable = false)
+    private Long tutorId;
+
+    @Column(nullable = false)
+    private LocalDateTime startTime;
+
+    // 기록 시각 (DB 시계, 빈 순번 만료 판단 기준)
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
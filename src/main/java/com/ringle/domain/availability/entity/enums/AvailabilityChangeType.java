@@ -0,0 +1,8 @@
+package com.ringle.domain.availability.entity.enums;
+
+/**
+ * 수업 가능 시간 변경 유형
+ */
+public enum AvailabilityChangeType {
+    CREATED, DELETED, BOOKED // [등록, 삭제, 예약]
+}
@@ -0,0 +1,45 @@
+package com.ringle.domain.availability.event;
+
+import com.ringle.domain.availability.entity.Availability;
+import com.ringle.domain.availability.entity.enums.AvailabilityChangeType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 수업 가능 시간 슬롯 변경 이벤트
+ * - 튜터의 등록/삭제, 수업 신청에 의한 예약 시 슬롯 단위로 발행
+ * - 인메모리 인덱스 등 조회용 구조를 갱신하는 데 사용
+ *
+ * @param tutorName 등록(CREATED) 시에만 포함 (지연 로딩 방지)
+ */
+public record AvailabilityChangedEvent(
+        AvailabilityChangeType type,
+        Long availabilityId,
+        Long tutorId,
+        String tutorName,
+        LocalDateTime startTime
+) {
+
+    public static AvailabilityChangedEvent created(Availability availability) {
+        return new AvailabilityChangedEvent(AvailabilityChangeType.CREATED, availability.getId(),
+                availability.getTutor().getId(), availability.getTutor().getName(), availability.getStartTime());
+    }
+
+    public static AvailabilityChangedEvent deleted(Availability availability) {
+        return new AvailabilityChangedEvent(AvailabilityChangeType.DELETED, availability.getId(),
+                availability.getTutor().getId(), null, availability.getStartTime());
+    }
+
+    public static AvailabilityChangedEvent booked(Availability availability) {
+        return new AvailabilityChangedEvent(AvailabilityChangeType.BOOKED, availability.getId(),
+                availability.getTutor().getId(), null, availability.getStartTime());
+    }
+
+    /**
+     * 슬롯이 속한 날짜
+     */
+    public LocalDate date() {
+        return startTime.toLocalDate();
+    }
+}
@@ -0,0 +1,227 @@
+package com.ringle.domain.availability.index;
+
+import com.ringle.domain.availability.event.AvailabilityChangedEvent;
+import com.ringle.domain.availability.repository.AvailabilityRepository;
+import com.ringle.domain.availability.repository.projection.OpenSlotRow;
+import com.ringle.domain.availability.util.SlotMaskUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 튜터별/날짜별 예약 가능 슬롯 인메모리 비트맵 인덱스
+ * - (tutorId, 날짜) → 48bit 마스크 (30분 슬롯 하나당 1bit)
+ * - (tutorId, 날짜) → 60분 수업 시작 가능 마스크 (같은 튜터의 연속된 두 슬롯이 모두 열린 시작 슬롯)
+ * - 애플리케이션 기동 시 DB에서 적재, 이후 슬롯 변경 이벤트(커밋 후)로 갱신
+ * - 다른 노드의 변경은 반영되지 않으므로 단일 노드 배포에서만 활성화
+ */
+@Slf4j
+@Component
+public class AvailabilitySlotIndex implements SmartInitializingSingleton {
+
+    private final AvailabilityRepository availabilityRepository;
+    private final boolean enabled;
+
+    // epochDay → (tutorId → 슬롯 마스크)
+    private final ConcurrentSkipListMap<Long, ConcurrentHashMap<Long, Long>> days = new ConcurrentSkipListMap<>();
+
+    // epochDay → (tutorId → 60분 수업 시작 가능 마스크)
+    private final ConcurrentSkipListMap<Long, ConcurrentHashMap<Long, Long>> sixtyMinuteDays = new ConcurrentSkipListMap<>();
+
+    // tutorId → 튜터 이름
+    private final ConcurrentHashMap<Long, String> tutorNames = new ConcurrentHashMap<>();
+
+    private volatile boolean ready = false;
+
+    public AvailabilitySlotIndex(AvailabilityRepository availabilityRepository,
+                                 @Value("${ringle.availability.index.enabled:false}") boolean enabled) {
+        this.availabilityRepository = availabilityRepository;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 모든 싱글톤 생성 후(웹 서버 기동 전) 오늘 이후의 예약 가능 슬롯 적재
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) return;
+
+        List<OpenSlotRow> rows = availabilityRepository.findOpenSlotsFrom(LocalDate.now().atStartOfDay());
+        rows.forEach(row -> open(row.tutorId(), row.tutorName(), row.startTime()));
+        ready = true;
+
+        log.info("Availability slot index loaded: {} slots, {} days", rows.size(), days.size());
+    }
+
+    /**
+     * 인덱스 조회 가능 여부 (비활성화 또는 적재 전이면 false → DB 조회)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 슬롯 변경 이벤트 반영 (트랜잭션 커밋 후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAvailabilityChanged(AvailabilityChangedEvent event) {
+        if (!enabled) return;
+
+        switch (event.type()) {
+            case CREATED -> open(event.tutorId(), event.tutorName(), event.startTime());
+            case DELETED, BOOKED -> close(event.tutorId(), event.startTime());
+        }
+    }
+
+    /**
+     * 슬롯 열기 (예약 가능)
+     * - 슬롯 마스크와 60분 수업 시작 가능 마스크를 함께 갱신하므로 쓰기는 직렬화 (조회는 잠금 없음)
+     */
+    synchronized void open(Long tutorId, String tutorName, LocalDateTime startTime) {
+        LocalDate date = startTime.toLocalDate();
+        int slot = SlotMaskUtils.slotIndex(date, startTime);
+
+        if (tutorName != null) {
+            tutorNames.put(tutorId, tutorName);
+        }
+        days.computeIfAbsent(date.toEpochDay(), d -> new ConcurrentHashMap<>())
+                .merge(tutorId, 1L << slot, (mask, added) -> mask | added);
+        refreshSixtyMinuteStarts(tutorId, date, slot);
+
+        // 지난 날짜는 더 이상 조회되지 않으므로 제거
+        long today = LocalDate.now().toEpochDay();
+        days.headMap(today).clear();
+        sixtyMinuteDays.headMap(today).clear();
+    }
+
+    /**
+     * 슬롯 닫기 (삭제 또는 예약됨)
+     */
+    synchronized void close(Long tutorId, LocalDateTime startTime) {
+        LocalDate date = startTime.toLocalDate();
+        ConcurrentHashMap<Long, Long> masks = days.get(date.toEpochDay());
+        if (masks == null) return;
+
+        int slot = SlotMaskUtils.slotIndex(date, startTime);
+        long bit = 1L << slot;
+        masks.computeIfPresent(tutorId, (id, mask) -> {
+            long remaining = mask & ~bit;
+            return remaining == 0 ? null : remaining;
+        });
+        refreshSixtyMinuteStarts(tutorId, date, slot);
+    }
+
+    /**
+     * 변경된 슬롯이 영향을 주는 60분 수업 시작 가능 마스크 재계산
+     * - 00:00 슬롯은 전날 23:30 시작 수업에도 영향
+     */
+    private void refreshSixtyMinuteStarts(Long tutorId, LocalDate date, int slot) {
+        putSixtyMinuteStarts(tutorId, date);
+        if (slot == 0) {
+            putSixtyMinuteStarts(tutorId, date.minusDays(1));
+        }
+    }
+
+    private void putSixtyMinuteStarts(Long tutorId, LocalDate date) {
+        long mask = getTutorMask(tutorId, date);
+        if ((getTutorMask(tutorId, date.plusDays(1)) & 1L) != 0) {
+            mask |= 1L << SlotMaskUtils.SLOTS_PER_DAY;
+        }
+        long starts = SlotMaskUtils.sixtyMinuteStarts(mask) & SlotMaskUtils.DAY_MASK;
+
+        if (starts != 0) {
+            sixtyMinuteDays.computeIfAbsent(date.toEpochDay(), d -> new ConcurrentHashMap<>()).put(tutorId, starts);
+        } else {
+            ConcurrentHashMap<Long, Long> dayStarts = sixtyMinuteDays.get(date.toEpochDay());
+            if (dayStarts != null) {
+                dayStarts.remove(tutorId);
+            }
+        }
+    }
+
+    private long getTutorMask(Long tutorId, LocalDate date) {
+        ConcurrentHashMap<Long, Long> masks = days.get(date.toEpochDay());
+        return (masks == null) ? 0L : masks.getOrDefault(tutorId, 0L);
+    }
+
+    /**
+     * 날짜별 튜터 슬롯 마스크 조회
+     * - bit 48에는 다음날 00:00 슬롯을 포함 (23:30 시작 60분 수업 판단용)
+     */
+    public Map<Long, Long> getTutorMasks(LocalDate date) {
+        Map<Long, Long> result = new HashMap<>();
+
+        ConcurrentHashMap<Long, Long> masks = days.get(date.toEpochDay());
+        if (masks != null) {
+            result.putAll(masks);
+        }
+
+        ConcurrentHashMap<Long, Long> nextDayMasks = days.get(date.toEpochDay() + 1);
+        if (nextDayMasks != null) {
+            nextDayMasks.forEach((tutorId, mask) -> {
+                if ((mask & 1L) != 0) {
+                    result.merge(tutorId, 1L << SlotMaskUtils.SLOTS_PER_DAY, (a, b) -> a | b);
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * 날짜별 전체 튜터 슬롯 합집합 (bit 48 포함)
+     */
+    public long getOpenMask(LocalDate date) {
+        long mask = 0L;
+        for (long tutorMask : getTutorMasks(date).values()) {
+            mask |= tutorMask;
+        }
+        return mask;
+    }
+
+    /**
+     * 날짜별 60분 수업 시작 가능 슬롯 합집합 (한 튜터가 연속 두 슬롯을 모두 가진 시작 슬롯만)
+     */
+    public long getSixtyMinuteMask(LocalDate date) {
+        ConcurrentHashMap<Long, Long> starts = sixtyMinuteDays.get(date.toEpochDay());
+        if (starts == null) return 0L;
+
+        long mask = 0L;
+        for (long tutorStarts : starts.values()) {
+            mask |= tutorStarts;
+        }
+        return mask;
+    }
+
+    /**
+     * 튜터의 해당 시각 슬롯이 열려 있는지 (30분 수업)
+     */
+    public boolean isOpen(Long tutorId, LocalDateTime startTime) {
+        LocalDate date = startTime.toLocalDate();
+        return (getTutorMask(tutorId, date) & (1L << SlotMaskUtils.slotIndex(date, startTime))) != 0;
+    }
+
+    /**
+     * 튜터가 해당 시각에 60분 수업을 시작할 수 있는지
+     */
+    public boolean isSixtyMinuteStart(Long tutorId, LocalDateTime startTime) {
+        LocalDate date = startTime.toLocalDate();
+        ConcurrentHashMap<Long, Long> starts = sixtyMinuteDays.get(date.toEpochDay());
+        if (starts == null) return false;
+        return (starts.getOrDefault(tutorId, 0L) & (1L << SlotMaskUtils.slotIndex(date, startTime))) != 0;
+    }
+
+    public String getTutorName(Long tutorId) {
+        return tutorNames.get(tutorId);
+    }
+}
@@ -0,0 +1,31 @@
+package com.ringle.domain.availability.repository;
+
+import com.ringle.domain.availability.entity.AvailabilityChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 수업 가능 시간 변경 로그 JPA Repository
+ * - 기록은 AvailabilityJdbcRepository 배치 INSERT, 조회는 PK 범위 조회 (읽기 전용, Replica 라우팅 대상)
+ */
+@Repository
+public interface AvailabilityChangeRepository extends JpaRepository<AvailabilityChange, Long> {
+
+    /**
+     * 지정한 순번 이후 변경 조회 (순번 오름차순, pageable로 개수 제한)
+     */
+    @Transactional(readOnly = true)
+    List<AvailabilityChange> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * 지정한 시각 이전에 기록된 마지막 변경 (PK 역순으로 읽다가 첫 번째 일치에서 멈춤)
+     */
+    @Transactional(readOnly = true)
+    Optional<AvailabilityChange> findFirstByCreatedAtBeforeOrderByIdDesc(LocalDateTime createdAt);
+}
@@ -0,0 +1,103 @@
+package com.ringle.domain.availability.repository;
+
+import com.ringle.domain.availability.event.AvailabilityChangedEvent;
+import com.ringle.domain.availability.util.SlotMaskUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 수업 가능 시간 JDBC 일괄 저장
+ * - Availability는 IDENTITY 전략이라 Hibernate가 INSERT를 배치로 묶지 못하므로 JdbcTemplate 배치 사용
+ * - 슬롯은 BATCH_SIZE개씩 multi-row INSERT 한 문장으로 등록, 중복이 있는 묶음만 슬롯별 INSERT로 다시 시도
+ *   (INSERT IGNORE는 중복 외의 FK/NOT NULL/길이 오류까지 경고로 바꾸므로 사용하지 않음)
+ * - 변경 로그는 MySQL 드라이버의 rewriteBatchedStatements=true 설정으로 multi-row INSERT 한 문장으로 전송
+ * - 변경 로그도 트랜잭션 단위로 모아 같은 방식으로 일괄 기록 (기록 시각은 DB 시계 기준)
+ */
+@Repository
+@RequiredArgsConstructor
+public class AvailabilityJdbcRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SLOT_SQL =
+            "INSERT INTO availabilities (tutor_id, start_time, end_time, is_booked, created_at) VALUES ";
+    private static final String SLOT_VALUES = "(?, ?, ?, false, ?)";
+
+    private static final String INSERT_CHANGE_SQL =
+            "INSERT INTO availability_changes (type, availability_id, tutor_id, start_time, created_at) " +
+            "VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP(6))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 30분 슬롯 일괄 등록 (이미 있는 슬롯은 건너뜀)
+     * - 묶음 INSERT가 중복 키로 실패하면 (InnoDB는 문장 단위로 되돌림) 그 묶음만 슬롯별로 INSERT하여 중복만 제외
+     * - 현재 트랜잭션의 커넥션을 그대로 사용
+     *
+     * @return 실제로 등록된 슬롯 시작 시각 (중복으로 건너뛴 슬롯 제외)
+     */
+    public List<LocalDateTime> insertSlots(Long tutorId, List<LocalDateTime> startTimes, LocalDateTime createdAt) {
+        Timestamp created = Timestamp.valueOf(createdAt);
+        List<LocalDateTime> inserted = new ArrayList<>(startTimes.size());
+
+        for (int from = 0; from < startTimes.size(); from += BATCH_SIZE) {
+            List<LocalDateTime> chunk = startTimes.subList(from, Math.min(from + BATCH_SIZE, startTimes.size()));
+            try {
+                jdbcTemplate.update(INSERT_SLOT_SQL + String.join(", ", Collections.nCopies(chunk.size(), SLOT_VALUES)),
+                        slotArgs(tutorId, chunk, created));
+                inserted.addAll(chunk);
+            } catch (DuplicateKeyException e) {
+                for (LocalDateTime startTime : chunk) {
+                    try {
+                        jdbcTemplate.update(INSERT_SLOT_SQL + SLOT_VALUES, slotArgs(tutorId, List.of(startTime), created));
+                        inserted.add(startTime);
+                    } catch (DuplicateKeyException duplicate) {
+                        // 이미 등록된 슬롯
+                    }
+                }
+            }
+        }
+        return inserted;
+    }
+
+    private Object[] slotArgs(Long tutorId, List<LocalDateTime> startTimes, Timestamp created) {
+        Object[] args = new Object[startTimes.size() * 4];
+        int i = 0;
+        for (LocalDateTime startTime : startTimes) {
+            args[i++] = tutorId;
+            args[i++] = Timestamp.valueOf(startTime);
+            args[i++] = Timestamp.valueOf(startTime.plusMinutes(SlotMaskUtils.SLOT_MINUTES));
+            args[i++] = created;
+        }
+        return args;
+    }
+
+    /**
+     * 슬롯 변경 로그 일괄 기록 (목록 순서대로 순번 부여)
+     * - 기록 시각은 애플리케이션 노드가 아닌 DB의 CURRENT_TIMESTAMP(6) (노드 간 시계 차이 영향 없음)
+     * - 현재 트랜잭션의 커넥션을 그대로 사용
+     */
+    public void insertChanges(List<AvailabilityChangedEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_CHANGE_SQL, events, BATCH_SIZE, (ps, event) -> {
+            ps.setString(1, event.type().name());
+            ps.setLong(2, event.availabilityId());
+            ps.setLong(3, event.tutorId());
+            ps.setTimestamp(4, Timestamp.valueOf(event.startTime()));
+        });
+    }
+
+    /**
+     * DB 현재 시각 (변경 로그 기록 시각과 같은 시계로 비교하기 위해 사용)
+     */
+    public LocalDateTime currentTimestamp() {
+        return jdbcTemplate.queryForObject("SELECT CURRENT_TIMESTAMP(6)", Timestamp.class).toLocalDateTime();
+    }
+}
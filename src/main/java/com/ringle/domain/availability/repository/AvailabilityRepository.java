@@ -1,30 +1,125 @@
 package com.ringle.domain.availability.repository;
 
 import com.ringle.domain.availability.entity.Availability;
+import com.ringle.domain.availability.repository.projection.OpenSlotRow;
+import com.ringle.domain.availability.repository.projection.TutorSlotRow;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * 수업 가능 시간 JPA Repository
+ * - 학생 조회용 쿼리는 트랜잭션 밖에서 호출되어도 읽기 전용 트랜잭션으로 실행 (Replica 라우팅 대상)
  */
 @Repository
 public interface AvailabilityRepository extends JpaRepository<Availability, Long> {
     List<Availability> findByTutorIdOrderByStartTimeAsc(Long tutorId); // 튜터가 등록한 수업 시간 목록을 조회
     boolean existsByTutorIdAndStartTime(Long tutorId, LocalDateTime startTime); // 해당 시간대에 등록한 수업이 있는지 조회
+    List<Availability> findByTutorIdAndStartTimeIn(Long tutorId, Collection<LocalDateTime> startTimes); // 시작 시각 목록 중 등록된 슬롯 조회
 
-    boolean existsByStartTimeAndIsBookedFalse(LocalDateTime startTime); // 특정 시간에 예약되지 않은 수업 가능 시간 존재 여부 확인
 
-    // 특정 날짜 이후 가능한 tutor 전체 조회 (예약 안 된 것만)
-    @Query("SELECT a FROM Availability a " +
-            "WHERE a.isBooked = false AND a.startTime BETWEEN :start AND :end " +
-            "ORDER BY a.startTime ASC")
-    List<Availability> findUnbookedSlotsForToday(@Param("start") LocalDateTime start,
-                                                 @Param("end") LocalDateTime end);
+    /**
+     * 기간 내 예약되지 않은 수업 가능 시작 시각 조회 (중복 제거)
+     * - 시작 시각 이상, 종료 시각 미만
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT DISTINCT a.startTime FROM Availability a " +
+            "WHERE a.isBooked = false AND a.startTime >= :start AND a.startTime < :end")
+    List<LocalDateTime> findUnbookedStartTimes(@Param("start") LocalDateTime start,
+                                               @Param("end") LocalDateTime end);
+
+    /**
+     * 기간 + 하루 중 시간대 조건으로 예약되지 않은 수업 가능 시작 시각 조회 (중복 제거)
+     * - 시작 시각 이상, 종료 시각 미만
+     * - 시작 시각의 자정 기준 분(minute of day)이 [windowStartMinute, windowEndMinute] 범위인 슬롯만 반환
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT DISTINCT a.startTime FROM Availability a " +
+            "WHERE a.isBooked = false AND a.startTime >= :start AND a.startTime < :end " +
+            "AND EXTRACT(HOUR FROM a.startTime) * 60 + EXTRACT(MINUTE FROM a.startTime) " +
+            "BETWEEN :windowStartMinute AND :windowEndMinute")
+    List<LocalDateTime> findUnbookedStartTimesInWindow(@Param("start") LocalDateTime start,
+                                                       @Param("end") LocalDateTime end,
+                                                       @Param("windowStartMinute") int windowStartMinute,
+                                                       @Param("windowEndMinute") int windowEndMinute);
+
+    /**
+     * 기간 내 예약되지 않은 슬롯의 튜터 ID, 시작 시각 조회
+     * - 시작 시각 이상, 종료 시각 미만
+     * - 60분 수업은 같은 튜터의 연속된 두 슬롯이 필요하므로 튜터 단위로 판단할 때 사용
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.ringle.domain.availability.repository.projection.TutorSlotRow(a.tutor.id, a.startTime) " +
+            "FROM Availability a " +
+            "WHERE a.isBooked = false AND a.startTime >= :start AND a.startTime < :end")
+    List<TutorSlotRow> findUnbookedTutorSlots(@Param("start") LocalDateTime start,
+                                              @Param("end") LocalDateTime end);
+
+    /**
+     * 기간 + 하루 중 시간대 조건으로 예약되지 않은 슬롯의 튜터 ID, 시작 시각 조회
+     * - 시간대 조건은 findUnbookedStartTimesInWindow와 동일
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.ringle.domain.availability.repository.projection.TutorSlotRow(a.tutor.id, a.startTime) " +
+            "FROM Availability a " +
+            "WHERE a.isBooked = false AND a.startTime >= :start AND a.startTime < :end " +
+            "AND EXTRACT(HOUR FROM a.startTime) * 60 + EXTRACT(MINUTE FROM a.startTime) " +
+            "BETWEEN :windowStartMinute AND :windowEndMinute")
+    List<TutorSlotRow> findUnbookedTutorSlotsInWindow(@Param("start") LocalDateTime start,
+                                                      @Param("end") LocalDateTime end,
+                                                      @Param("windowStartMinute") int windowStartMinute,
+                                                      @Param("windowEndMinute") int windowEndMinute);
+
+    /**
+     * 지정 시각 이후 예약되지 않은 전체 슬롯 조회 (튜터 ID, 이름, 시작 시각만)
+     * - 인메모리 인덱스 초기 적재용
+     */
+    @Query("SELECT new com.ringle.domain.availability.repository.projection.OpenSlotRow(t.id, t.name, a.startTime) " +
+            "FROM Availability a JOIN a.tutor t " +
+            "WHERE a.isBooked = false AND a.startTime >= :from")
+    List<OpenSlotRow> findOpenSlotsFrom(@Param("from") LocalDateTime from);
+
+    /**
+     * 기간 내 예약되지 않은 슬롯 조회 (튜터 ID, 이름, 시작 시각만)
+     * - 시작 시각 이상, 종료 시각 미만
+     * - 튜터 ID → 시작 시각 순 정렬 (튜터별 그룹핑용)
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.ringle.domain.availability.repository.projection.OpenSlotRow(t.id, t.name, a.startTime) " +
+            "FROM Availability a JOIN a.tutor t " +
+            "WHERE a.isBooked = false AND a.startTime >= :start AND a.startTime < :end " +
+            "ORDER BY t.id ASC, a.startTime ASC")
+    List<OpenSlotRow> findOpenSlotsBetween(@Param("start") LocalDateTime start,
+                                           @Param("end") LocalDateTime end);
+
+    /**
+     * findOpenSlotsBetween의 스트리밍 버전
+     * - 결과 전체를 메모리에 올리지 않고 fetch size 단위로 읽음 (읽기 전용 트랜잭션 안에서 사용 후 close 필요)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.ringle.domain.availability.repository.projection.OpenSlotRow(t.id, t.name, a.startTime) " +
+            "FROM Availability a JOIN a.tutor t " +
+            "WHERE a.isBooked = false AND a.startTime >= :start AND a.startTime < :end " +
+            "ORDER BY t.id ASC, a.startTime ASC")
+    Stream<OpenSlotRow> streamOpenSlotsBetween(@Param("start") LocalDateTime start,
+                                               @Param("end") LocalDateTime end);
 
     /**
      * 지정한 튜터의 수업 가능 시간 목록 조회
@@ -35,12 +130,51 @@ public interface AvailabilityRepository extends JpaRepository<Availability, Long
     List<Availability> findAvailableSlots(Long tutorId, LocalDateTime start, LocalDateTime end);
 
     /**
-     * 대체 튜터 후보 검색
-     * - 현재 튜터를 제외한 다른 튜터 중 같은 시간대에 예약되지 않은 시간대 보유한 튜터 목록
+     * 지정한 튜터의 시작 시각 목록 중 예약되지 않은 슬롯 조회
+     * - 반복 수업 전체 회차를 한 번의 쿼리로 확인
      */
     @Query("SELECT a FROM Availability a " +
+            "WHERE a.tutor.id = :tutorId AND a.startTime IN :startTimes AND a.isBooked = false")
+    List<Availability> findUnbookedSlotsByStartTimes(@Param("tutorId") Long tutorId,
+                                                     @Param("startTimes") List<LocalDateTime> startTimes);
+
+    /**
+     * 슬롯 ID 목록 중 아직 예약되지 않은 슬롯을 잠그고 조회 (SELECT ... FOR UPDATE)
+     * - 최신 커밋 상태를 읽고 행을 잠그므로, 이어지는 UPDATE로 반환된 슬롯을 모두 점유할 수 있음
+     * - 반복 수업 BEST_EFFORT에서 가능한 회차를 UPDATE 한 번으로 점유하기 위해 사용
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Availability a WHERE a.id IN :ids AND a.isBooked = false")
+    List<Availability> findUnbookedSlotsForUpdate(@Param("ids") List<Long> ids);
+
+    /**
+     * 예약되지 않은 슬롯만 예약 상태로 변경 (조건부 UPDATE)
+     * - 반환값(변경된 행 수)이 요청한 슬롯 수보다 적으면 다른 요청이 먼저 점유한 것
+     */
+    @Modifying
+    @Query("UPDATE Availability a SET a.isBooked = true WHERE a.id IN :ids AND a.isBooked = false")
+    int claimSlots(@Param("ids") List<Long> ids);
+
+    /**
+     * 현재 트랜잭션이 점유한 슬롯 되돌리기 (예약 해제)
+     */
+    @Modifying
+    @Query("UPDATE Availability a SET a.isBooked = false WHERE a.id IN :ids")
+    int releaseSlots(@Param("ids") List<Long> ids);
+
+    /**
+     * 대체 튜터 후보 검색
+     * - 현재 튜터를 제외한 튜터 중 같은 시간대의 예약되지 않은 슬롯을 slotCount개 모두 보유한 튜터 ID
+     * - 튜터 ID 순, pageable로 후보 수 제한
+     */
+    @Query("SELECT a.tutor.id FROM Availability a " +
             "WHERE a.tutor.id <> :excludedTutorId AND a.startTime >= :start AND a.endTime <= :end " +
             "AND a.isBooked = false AND a.tutor.role = com.ringle.domain.user.entity.enums.Role.TUTOR " +
-            "ORDER BY a.startTime ASC")
-    List<Availability> findAlternativeSlots(Long excludedTutorId, LocalDateTime start, LocalDateTime end);
+            "GROUP BY a.tutor.id HAVING COUNT(a) = :slotCount " +
+            "ORDER BY a.tutor.id ASC")
+    List<Long> findAlternativeTutorIds(@Param("excludedTutorId") Long excludedTutorId,
+                                       @Param("start") LocalDateTime start,
+                                       @Param("end") LocalDateTime end,
+                                       @Param("slotCount") long slotCount,
+                                       Pageable pageable);
 }
@@ -0,0 +1,14 @@
+package com.ringle.domain.availability.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 가능 슬롯 조회용 프로젝션
+ * - 튜터 엔티티 대신 필요한 컬럼만 조회
+ */
+public record OpenSlotRow(
+        Long tutorId,
+        String tutorName,
+        LocalDateTime startTime
+) {
+}
@@ -0,0 +1,13 @@
+package com.ringle.domain.availability.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 튜터별 예약 가능 슬롯 조회용 프로젝션
+ * - 튜터 조인 없이 외래 키와 시작 시각만 조회
+ */
+public record TutorSlotRow(
+        Long tutorId,
+        LocalDateTime startTime
+) {
+}
@@ -0,0 +1,114 @@
+package com.ringle.domain.availability.service;
+
+import com.ringle.common.exception.BusinessException;
+import com.ringle.common.exception.ExceptionCode;
+import com.ringle.domain.availability.dto.response.AvailabilityChangeDto;
+import com.ringle.domain.availability.dto.response.AvailabilityChangesResponseDto;
+import com.ringle.domain.availability.entity.AvailabilityChange;
+import com.ringle.domain.availability.repository.AvailabilityChangeRepository;
+import com.ringle.domain.availability.repository.AvailabilityJdbcRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 수업 가능 시간 변경분 조회 (델타 동기화)
+ * - 클라이언트는 날짜 전체를 다시 조회하지 않고 마지막으로 받은 순번 이후 변경만 조회
+ * - 순번은 INSERT 시점에 부여되므로 동시에 진행 중인 트랜잭션이 더 작은 순번을 늦게 커밋할 수 있음
+ *   → 비어 있는 순번을 만나면 그 앞에서 멈추고 다음 요청에서 다시 확인 (커서가 빠진 순번을 넘지 않음)
+ * - 롤백된 INSERT의 순번은 끝까지 비므로, 빈 순번 뒤 변경이 gap-timeout보다 오래된 경우에만 건너뜀
+ *   (기록 시각과 비교 시각 모두 DB 시계 기준이라 노드 간 시계 차이 영향 없음)
+ */
+@Service
+public class AvailabilityChangeService {
+
+    // 한 번에 조회 가능한 최대 변경 수
+    private static final int MAX_LIMIT = 500;
+
+    private final AvailabilityChangeRepository availabilityChangeRepository;
+    private final AvailabilityJdbcRepository availabilityJdbcRepository;
+    private final Duration gapTimeout;
+
+    public AvailabilityChangeService(AvailabilityChangeRepository availabilityChangeRepository,
+                                     AvailabilityJdbcRepository availabilityJdbcRepository,
+                                     @Value("${ringle.availability.changes.gap-timeout:30s}") Duration gapTimeout) {
+        this.availabilityChangeRepository = availabilityChangeRepository;
+        this.availabilityJdbcRepository = availabilityJdbcRepository;
+        this.gapTimeout = gapTimeout;
+    }
+
+    /**
+     * since 이후 변경 조회 (순번 오름차순, 최대 limit건)
+     * - since 미지정 시 변경 없이 현재 순번만 반환 (날짜 전체 조회 직후 동기화 시작점으로 사용)
+     *
+     * @param since 마지막으로 받은 순번
+     * @param limit 최대 조회 건수 (1 ~ 500)
+     */
+    @Transactional(readOnly = true)
+    public AvailabilityChangesResponseDto getChanges(Long since, int limit) {
+        if ((since != null && since < 0) || limit < 1 || limit > MAX_LIMIT) {
+            throw new BusinessException(ExceptionCode.NOT_VALID_ERROR);
+        }
+
+        LocalDateTime gapExpiredBefore = availabilityJdbcRepository.currentTimestamp().minus(gapTimeout);
+
+        if (since == null) {
+            // gap-timeout 이전의 마지막 순번부터 빈 순번 없이 이어지는 마지막 순번
+            long settled = availabilityChangeRepository.findFirstByCreatedAtBeforeOrderByIdDesc(gapExpiredBefore)
+                    .map(AvailabilityChange::getId)
+                    .orElse(0L);
+            AvailabilityChangesResponseDto head = readContiguous(settled, MAX_LIMIT, gapExpiredBefore);
+            return AvailabilityChangesResponseDto.builder()
+                    .changes(List.of())
+                    .nextSince(head.getNextSince())
+                    .hasMore(false)
+                    .build();
+        }
+
+        return readContiguous(since, limit, gapExpiredBefore);
+    }
+
+    /**
+     * since 다음 순번부터 빈 순번 없이 이어지는 변경을 최대 limit건 조회
+     */
+    private AvailabilityChangesResponseDto readContiguous(long since, int limit, LocalDateTime gapExpiredBefore) {
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<AvailabilityChange> rows =
+                availabilityChangeRepository.findByIdGreaterThanOrderByIdAsc(since, PageRequest.of(0, limit + 1));
+
+        List<AvailabilityChangeDto> changes = new ArrayList<>(Math.min(rows.size(), limit));
+        boolean hasMore = false;
+        long expected = since + 1;
+        for (AvailabilityChange change : rows) {
+            // 빈 순번은 아직 커밋 중일 수 있으므로 다음 요청에서 (뒤 변경이 충분히 오래되었으면 롤백된 순번)
+            if (change.getId() != expected && !change.getCreatedAt().isBefore(gapExpiredBefore)) {
+                break;
+            }
+            if (changes.size() == limit) {
+                hasMore = true;
+                break;
+            }
+            changes.add(AvailabilityChangeDto.builder()
+                    .seq(change.getId())
+                    .type(change.getType())
+                    .availabilityId(change.getAvailabilityId())
+                    .tutorId(change.getTutorId())
+                    .startTime(change.getStartTime())
+                    .build());
+            expected = change.getId() + 1;
+        }
+
+        long nextSince = changes.isEmpty() ? since : changes.get(changes.size() - 1).getSeq();
+        return AvailabilityChangesResponseDto.builder()
+                .changes(changes)
+                .nextSince(nextSince)
+                .hasMore(hasMore)
+                .build();
+    }
+}
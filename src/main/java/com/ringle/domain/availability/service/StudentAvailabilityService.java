@@ -2,19 +2,27 @@ package com.ringle.domain.availability.service;
 
 import com.ringle.common.exception.BusinessException;
 import com.ringle.common.exception.ExceptionCode;
+import com.ringle.domain.availability.cache.TutorSlotCache;
+import com.ringle.domain.availability.dto.response.DailyTimeSlotDto;
 import com.ringle.domain.availability.dto.response.TimeSlotDto;
 import com.ringle.domain.availability.dto.response.TutorSlotDto;
-import com.ringle.domain.availability.entity.Availability;
+import com.ringle.domain.availability.index.AvailabilitySlotIndex;
 import com.ringle.domain.availability.repository.AvailabilityRepository;
+import com.ringle.domain.availability.repository.projection.OpenSlotRow;
+import com.ringle.domain.availability.repository.projection.TutorSlotRow;
+import com.ringle.domain.availability.util.SlotMaskUtils;
 import com.ringle.domain.lesson.entity.enums.DurationType;
-import com.ringle.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * 학생이 수업 가능 시간대 및 튜터 목록을 조회하는 서비스
@@ -23,13 +31,21 @@ import java.util.*;
 @RequiredArgsConstructor
 public class StudentAvailabilityService {
 
+    // 기간 조회 최대 일수
+    private static final int MAX_RANGE_DAYS = 31;
+
     private final AvailabilityRepository availabilityRepository;
+    private final AvailabilitySlotIndex availabilitySlotIndex;
+    private final TutorSlotCache tutorSlotCache;
 
     /**
      * 날짜 & 수업 길이 기반 수업 가능 시간대 조회
      * - 오늘: 현재 시간 이후의 정각 또는 30분 단위부터 시작
      * - 미래 날짜: 00:00부터 전체 시간대 확인
      * - 과거: 예외 발생
+     * - 60분 수업은 같은 튜터의 연속된 두 슬롯이 모두 열린 시작 시각만 포함
+     * - 인메모리 인덱스 사용 시 DB 조회 없이 비트 연산으로 계산
+     * - 그 외에는 하루치 예약 가능 슬롯을 한 번의 범위 쿼리로 조회 후 메모리에서 30분 단위 그리드 구성
      *
      * @param targetDate 조회할 날짜
      * @param durationType 수업 길이 (30분/60분)
@@ -41,63 +57,227 @@ public class StudentAvailabilityService {
             throw new BusinessException(ExceptionCode.NOT_VALID_ERROR);
         }
 
-        // 오늘 날짜 및 현재 시각(초, 나노초 제거)
-        LocalDate today = LocalDate.now();
-        LocalDateTime now = LocalDateTime.now().withSecond(0).withNano(0);
-
         // 과거 날짜일 경우 예외 발생
-        if (targetDate.isBefore(today)) {
+        if (targetDate.isBefore(LocalDate.now())) {
+            throw new BusinessException(ExceptionCode.DATE_IN_THE_PAST);
+        }
+
+        long startableMask = availabilitySlotIndex.isReady()
+                ? getStartableMaskFromIndex(targetDate, durationType)
+                : loadStartableMask(targetDate, durationType);
+
+        return buildTimeSlots(targetDate, startableMask);
+    }
+
+    /**
+     * 기간 & 수업 길이 기반 날짜별 수업 가능 시간대 조회
+     * - 기간 전체를 한 번의 범위 쿼리로 조회 후 날짜별로 그룹핑
+     * - 시간대(windowStart ~ windowEnd) 지정 시 쿼리에서 필터링하며, 수업이 시간대 안에서 끝나야 함
+     * - 가능한 시간대가 없는 날짜도 빈 목록으로 포함
+     *
+     * @param from 조회 시작 날짜
+     * @param to 조회 종료 날짜 (포함, 최대 31일)
+     * @param durationType 수업 길이 (30분/60분)
+     * @param windowStart 시간대 시작 (선택, 미지정 시 00:00)
+     * @param windowEnd 시간대 종료 (선택, 미지정 시 24:00)
+     * @return 날짜별 수업 가능 시간대 리스트
+     */
+    public List<DailyTimeSlotDto> getAvailableTimeSlotsInRange(LocalDate from, LocalDate to, DurationType durationType,
+                                                               LocalTime windowStart, LocalTime windowEnd) {
+        // 입력 값 검증
+        if (from == null || to == null || durationType == null) {
+            throw new BusinessException(ExceptionCode.NOT_VALID_ERROR);
+        }
+
+        // 과거 날짜 포함 시 예외 발생
+        if (from.isBefore(LocalDate.now())) {
             throw new BusinessException(ExceptionCode.DATE_IN_THE_PAST);
         }
 
-        LocalDateTime startTime;
+        // 기간 검증 (종료일 포함 최대 31일)
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new BusinessException(ExceptionCode.INVALID_DATE_RANGE);
+        }
+
+        // 시간대 검증 (30분 단위, 시작 < 종료)
+        int windowStartSlot = (windowStart == null) ? 0 : toWindowSlot(windowStart);
+        int windowEndSlot = (windowEnd == null) ? SlotMaskUtils.SLOTS_PER_DAY : toWindowSlot(windowEnd);
+        if (windowStartSlot >= windowEndSlot) {
+            throw new BusinessException(ExceptionCode.INVALID_TIME_WINDOW);
+        }
+
+        // 시간대 미지정 시 다음날 00:00 슬롯(bit 48)까지 허용 (23:30 시작 60분 수업)
+        long windowMask = (windowStart == null && windowEnd == null)
+                ? SlotMaskUtils.rangeMask(0, SlotMaskUtils.SLOTS_PER_DAY + 1)
+                : SlotMaskUtils.rangeMask(windowStartSlot, windowEndSlot);
+
+        // 수업이 시간대 안에서 끝나야 하므로 60분 수업은 다음 슬롯도 시간대 안이어야 함
+        long windowStarts = (durationType == DurationType.SIXTY)
+                ? SlotMaskUtils.sixtyMinuteStarts(windowMask)
+                : windowMask;
+
+        Map<LocalDate, Long> startableMasks = availabilitySlotIndex.isReady()
+                ? null
+                : loadStartableMasks(from, to, windowMask, durationType);
+
+        List<DailyTimeSlotDto> result = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            long startableMask = (startableMasks == null)
+                    ? getStartableMaskFromIndex(date, durationType)
+                    : startableMasks.getOrDefault(date, 0L);
+
+            result.add(DailyTimeSlotDto.builder()
+                    .date(date)
+                    .slots(buildTimeSlots(date, startableMask & windowStarts))
+                    .build());
+        }
+        return result;
+    }
+
+    /**
+     * 기간 내 날짜별 수업 시작 가능 슬롯 마스크 DB 조회 (범위 쿼리 1회)
+     * - 30분 수업: 예약 가능 시작 시각 (중복 제거)
+     * - 60분 수업: 튜터별 연속 슬롯 기준 시작 가능 시각
+     * - 다음날 00:00 슬롯은 전날 마스크의 bit 48에도 반영
+     */
+    private Map<LocalDate, Long> loadStartableMasks(LocalDate from, LocalDate to, long windowMask, DurationType durationType) {
+        int windowStartMinute = Long.numberOfTrailingZeros(windowMask) * SlotMaskUtils.SLOT_MINUTES;
+        int windowEndMinute = Math.min(SlotMaskUtils.SLOTS_PER_DAY - 1,
+                Long.SIZE - 1 - Long.numberOfLeadingZeros(windowMask)) * SlotMaskUtils.SLOT_MINUTES;
+
+        // bit 48(다음날 00:00)이 허용된 경우 자정 슬롯도 함께 조회
+        if ((windowMask & (1L << SlotMaskUtils.SLOTS_PER_DAY)) != 0) {
+            windowStartMinute = 0;
+        }
+
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay().plusMinutes(30);
+        if (durationType == DurationType.SIXTY) {
+            return toSixtyMinuteMasks(availabilityRepository.findUnbookedTutorSlotsInWindow(
+                    start, end, windowStartMinute, windowEndMinute
+            ));
+        }
+
+        List<LocalDateTime> openStartTimes = availabilityRepository.findUnbookedStartTimesInWindow(
+                start, end, windowStartMinute, windowEndMinute
+        );
+
+        Map<LocalDate, Long> masks = new HashMap<>();
+        for (LocalDateTime startTime : openStartTimes) {
+            LocalDate date = startTime.toLocalDate();
+            int slot = SlotMaskUtils.slotIndex(startTime.toLocalTime());
+            masks.merge(date, 1L << slot, (a, b) -> a | b);
 
-        // 오늘 날짜인 경우: 현재 시간 기준으로 30분 단위 정렬
-        if (targetDate.isEqual(today)) {
-            int minute = now.getMinute();                            // 현재 분 추출
-            int roundedMinute = (minute < 30) ? 30 : 60;             // 다음 30분 단위로 올림
-            startTime = now.withMinute(0).plusMinutes(roundedMinute); // 정각/30분 단위로 맞추기
-            if (startTime.getMinute() == 60) {
-                startTime = startTime.plusHours(1).withMinute(0);    // 60분이면 다음 시간의 0분으로 설정
+            // 자정 슬롯은 전날 기준 bit 48
+            if (slot == 0) {
+                masks.merge(date.minusDays(1), 1L << SlotMaskUtils.SLOTS_PER_DAY, (a, b) -> a | b);
             }
-            System.out.println(startTime);
-        } else {
-            // 미래 날짜인 경우: 00:00부터 시작
-            startTime = targetDate.atStartOfDay();
-        }
-
-        // 조회 종료 시각은 23:59
-        LocalDateTime endTime = targetDate.atTime(23, 59);
-        List<TimeSlotDto> result = new ArrayList<>();
-
-        // 30분 단위로 반복
-        while (startTime.isBefore(endTime)) {
-            boolean available = false;
-
-            if (durationType == DurationType.THIRTY) {
-                // 30분 수업의 경우 해당 시간에 예약 가능 여부 조회
-                available = availabilityRepository.existsByStartTimeAndIsBookedFalse(startTime);
-            } else if (durationType == DurationType.SIXTY) {
-                // 60분 수업의 경우 연속된 두 슬롯이 모두 비어 있어야 함
-                LocalDateTime nextSlot = startTime.plusMinutes(30);
-                available =
-                        availabilityRepository.existsByStartTimeAndIsBookedFalse(startTime) &&
-                                availabilityRepository.existsByStartTimeAndIsBookedFalse(nextSlot);
+        }
+        return masks;
+    }
+
+    /**
+     * 시간대 경계 → 슬롯 번호 (정각 또는 30분만 허용)
+     */
+    private int toWindowSlot(LocalTime time) {
+        if ((time.getMinute() != 0 && time.getMinute() != 30) || time.getSecond() != 0 || time.getNano() != 0) {
+            throw new BusinessException(ExceptionCode.INVALID_TIME_WINDOW);
+        }
+        return SlotMaskUtils.slotIndex(time);
+    }
+
+    /**
+     * 튜터별 슬롯 → 날짜별 60분 수업 시작 가능 마스크
+     * - 같은 튜터의 t, t+30 슬롯이 모두 열린 경우만 t를 포함 (서로 다른 튜터의 슬롯은 이어 붙이지 않음)
+     * - 00:00 슬롯은 전날 bit 48로도 반영 (23:30 시작 수업)
+     */
+    private Map<LocalDate, Long> toSixtyMinuteMasks(List<TutorSlotRow> rows) {
+        Map<LocalDate, Map<Long, Long>> tutorMasks = new HashMap<>();
+        for (TutorSlotRow row : rows) {
+            LocalDate date = row.startTime().toLocalDate();
+            int slot = SlotMaskUtils.slotIndex(row.startTime().toLocalTime());
+            tutorMasks.computeIfAbsent(date, d -> new HashMap<>())
+                    .merge(row.tutorId(), 1L << slot, (a, b) -> a | b);
+
+            if (slot == 0) {
+                tutorMasks.computeIfAbsent(date.minusDays(1), d -> new HashMap<>())
+                        .merge(row.tutorId(), 1L << SlotMaskUtils.SLOTS_PER_DAY, (a, b) -> a | b);
             }
+        }
 
-            // 신청 가능한 slot만 추가
-            if (available) {
-                result.add(TimeSlotDto.builder()
-                        .time(startTime.toLocalTime().toString().substring(0, 5)) // HH:mm format
-                        .available(true)
-                        .build());
+        Map<LocalDate, Long> masks = new HashMap<>();
+        tutorMasks.forEach((date, masksByTutor) -> {
+            long starts = 0L;
+            for (long mask : masksByTutor.values()) {
+                starts |= SlotMaskUtils.sixtyMinuteStarts(mask);
             }
+            masks.put(date, starts & SlotMaskUtils.DAY_MASK);
+        });
+        return masks;
+    }
+
+    /**
+     * 인메모리 인덱스 기반 수업 시작 가능 슬롯 마스크
+     */
+    private long getStartableMaskFromIndex(LocalDate date, DurationType durationType) {
+        return (durationType == DurationType.SIXTY)
+                ? availabilitySlotIndex.getSixtyMinuteMask(date)
+                : availabilitySlotIndex.getOpenMask(date) & SlotMaskUtils.DAY_MASK;
+    }
+
+    /**
+     * 수업 시작 가능 슬롯 마스크 → 수업 가능 시간대 목록
+     * - 조회 시작 슬롯 이전 시간대 제외
+     */
+    private List<TimeSlotDto> buildTimeSlots(LocalDate date, long startableMask) {
+        long bookableMask = startableMask
+                & SlotMaskUtils.fromSlot(SlotMaskUtils.slotIndex(date, getSearchStartTime(date)));
+
+        // 신청 가능한 slot만 반환 (HH:mm format)
+        return SlotMaskUtils.toTimes(bookableMask).stream()
+                .map(time -> TimeSlotDto.builder()
+                        .time(time)
+                        .available(true)
+                        .build())
+                .toList();
+    }
 
-            // 다음 시간 슬롯으로 이동
-            startTime = startTime.plusMinutes(30);
+    /**
+     * 하루치 수업 시작 가능 슬롯 마스크 DB 조회
+     * - 30분 수업: 00:00 ~ 다음날 00:00 예약 가능 시작 시각
+     * - 60분 수업: 00:00 ~ 다음날 00:30 튜터별 슬롯 (23:30 시작 수업은 다음날 00:00 슬롯 필요)
+     */
+    private long loadStartableMask(LocalDate targetDate, DurationType durationType) {
+        LocalDateTime dayStart = targetDate.atStartOfDay();
+
+        if (durationType == DurationType.SIXTY) {
+            List<TutorSlotRow> rows = availabilityRepository.findUnbookedTutorSlots(
+                    dayStart, dayStart.plusDays(1).plusMinutes(30)
+            );
+            return toSixtyMinuteMasks(rows).getOrDefault(targetDate, 0L);
         }
 
-        return result;
+        List<LocalDateTime> openStartTimes = availabilityRepository.findUnbookedStartTimes(
+                dayStart, dayStart.plusDays(1)
+        );
+        return SlotMaskUtils.toMask(targetDate, openStartTimes) & SlotMaskUtils.DAY_MASK;
+    }
+
+    /**
+     * 조회 시작 시각 계산
+     * - 오늘: 현재 시간 기준 다음 30분 단위
+     * - 미래 날짜: 00:00
+     */
+    private LocalDateTime getSearchStartTime(LocalDate targetDate) {
+        // 미래 날짜인 경우: 00:00부터 시작
+        if (!targetDate.isEqual(LocalDate.now())) {
+            return targetDate.atStartOfDay();
+        }
+
+        // 오늘 날짜인 경우: 현재 시간(초, 나노초 제거) 기준으로 30분 단위 정렬
+        LocalDateTime now = LocalDateTime.now().withSecond(0).withNano(0);
+        int roundedMinute = (now.getMinute() < 30) ? 30 : 60;  // 다음 30분 단위로 올림
+        return now.withMinute(0).plusMinutes(roundedMinute);    // 60분이면 다음 시간의 0분
     }
 
 
@@ -107,8 +287,46 @@ public class StudentAvailabilityService {
      * @param date 조회할 날짜
      * @return 튜터별 가능한 시간 리스트
      */
-    @Transactional(readOnly = true)
     public List<TutorSlotDto> getTutorAvailableSlotsByDate(LocalDate date) {
+        validateSlotDate(date);
+
+        // 인메모리 인덱스 사용 시 DB 조회 없이 구성, 그 외에는 날짜별 캐시 조회 (슬롯 변경 시 무효화)
+        List<TutorSlotDto> result = availabilitySlotIndex.isReady()
+                ? getTutorSlotsFromIndex(date)
+                : tutorSlotCache.get(date, this::loadTutorSlots);
+
+        // 수업 가능한 튜터가 없는 경우 예외 처리
+        if (result.isEmpty()) {
+            throw new BusinessException(ExceptionCode.TUTOR_AVAILABILITY_NOT_FOUND);
+        }
+        return result;
+    }
+
+    /**
+     * 특정 날짜에 수업 가능한 튜터 목록과 가능한 시간대 스트리밍 조회
+     * - 읽기 전용 커서로 fetch size 단위로 읽고, 튜터 한 명의 시간대가 모이는 즉시 consumer로 전달
+     * - 전체 목록을 메모리에 모으지 않으므로 튜터 ID 순으로 전달
+     * - 수업 가능한 튜터가 없으면 아무것도 전달하지 않음
+     *
+     * @param date 조회할 날짜
+     * @param consumer 튜터별 가능한 시간 처리
+     */
+    @Transactional(readOnly = true)
+    public void streamTutorAvailableSlotsByDate(LocalDate date, Consumer<TutorSlotDto> consumer) {
+        validateSlotDate(date);
+
+        LocalDateTime start = date.atStartOfDay();
+        try (Stream<OpenSlotRow> rows = availabilityRepository.streamOpenSlotsBetween(start, start.plusDays(1))) {
+            groupByTutor(rows.iterator(), consumer);
+        }
+    }
+
+    /**
+     * 날짜 단위 수업 가능 시간 조회 날짜 검증
+     * - 컨트롤러에서 조건부 요청(304) 판단 전에 먼저 호출 (잘못된 날짜는 ETag와 무관하게 400)
+     * - 스트리밍 조회는 응답 시작 후 오류 응답으로 전환할 수 없으므로 응답 전에 검증
+     */
+    public void validateSlotDate(LocalDate date) {
         // 날짜 검증
         if (date == null) {
             throw new BusinessException(ExceptionCode.NOT_VALID_ERROR);
@@ -118,32 +336,73 @@ public class StudentAvailabilityService {
         if (date.isBefore(LocalDate.now())) {
             throw new BusinessException(ExceptionCode.DATE_IN_THE_PAST);
         }
+    }
 
-        // 00:00 ~ 23:59 범위 설정
-        LocalDateTime start = date.atTime(0, 0);
-        LocalDateTime end = date.atTime(23, 59);
+    /**
+     * DB 기반 튜터별 수업 가능 시간 구성 (캐시 미스 시)
+     * - 튜터 ID, 이름, 시작 시각만 조회하는 단일 쿼리 (튜터 엔티티 지연 로딩 없음)
+     * - 튜터별 그룹핑 후 가장 이른 수업 가능 시간 순, 같으면 튜터 ID 순으로 정렬
+     */
+    private List<TutorSlotDto> loadTutorSlots(LocalDate date) {
+        // 00:00 ~ 다음날 00:00 범위 설정
+        LocalDateTime start = date.atStartOfDay();
+        List<OpenSlotRow> rows = availabilityRepository.findOpenSlotsBetween(start, start.plusDays(1));
 
-        List<Availability> availabilities = availabilityRepository.findUnbookedSlotsForToday(start, end);
+        List<TutorSlotDto> result = new ArrayList<>();
+        groupByTutor(rows.iterator(), result::add);
 
-        // 수업 가능한 튜터가 없는 경우 예외 처리
-        if (availabilities.isEmpty()) {
-            throw new BusinessException(ExceptionCode.TUTOR_AVAILABILITY_NOT_FOUND);
+        // "HH:mm" 문자열은 사전순 = 시간순
+        result.sort(Comparator.comparing((TutorSlotDto dto) -> dto.getAvailableTimes().get(0))
+                .thenComparing(TutorSlotDto::getTutorId));
+        return result;
+    }
+
+    /**
+     * 튜터 ID 순으로 정렬된 슬롯을 순차 그룹핑
+     * - 튜터가 바뀌는 시점에 이전 튜터의 시간대 목록 전달
+     */
+    private void groupByTutor(Iterator<OpenSlotRow> rows, Consumer<TutorSlotDto> consumer) {
+        OpenSlotRow first = null;
+        List<String> times = new ArrayList<>();
+
+        while (rows.hasNext()) {
+            OpenSlotRow row = rows.next();
+            if (first != null && !first.tutorId().equals(row.tutorId())) {
+                consumer.accept(toTutorSlot(first, times));
+                times = new ArrayList<>();
+            }
+            if (times.isEmpty()) {
+                first = row;
+            }
+            times.add(row.startTime().toLocalTime().toString().substring(0, 5)); // HH:mm
         }
 
-        // 튜터별 시간대 정리 (LinkedHashMap → 순서 보장)
-        Map<User, List<String>> tutorTimeMap = new LinkedHashMap<>();
-        for (Availability a : availabilities) {
-            tutorTimeMap
-                    .computeIfAbsent(a.getTutor(), k -> new ArrayList<>())
-                    .add(a.getStartTime().toLocalTime().toString().substring(0, 5)); // HH:mm
+        if (first != null) {
+            consumer.accept(toTutorSlot(first, times));
         }
+    }
 
-        // 튜터별로 시간대 목록 DTO로 변환하여 반환
-        return tutorTimeMap.entrySet().stream()
+    private TutorSlotDto toTutorSlot(OpenSlotRow row, List<String> times) {
+        return TutorSlotDto.builder()
+                .tutorId(row.tutorId())
+                .tutorName(row.tutorName())
+                .availableTimes(times)
+                .build();
+    }
+
+    /**
+     * 인메모리 인덱스 기반 튜터별 수업 가능 시간 구성
+     * - 가장 이른 수업 가능 시간 순, 같으면 튜터 ID 순
+     */
+    private List<TutorSlotDto> getTutorSlotsFromIndex(LocalDate date) {
+        return availabilitySlotIndex.getTutorMasks(date).entrySet().stream()
+                .filter(entry -> (entry.getValue() & SlotMaskUtils.DAY_MASK) != 0)
+                .sorted(Comparator.comparingInt((Map.Entry<Long, Long> entry) -> Long.numberOfTrailingZeros(entry.getValue()))
+                        .thenComparing(Map.Entry::getKey))
                 .map(entry -> TutorSlotDto.builder()
-                        .tutorId(entry.getKey().getId())
-                        .tutorName(entry.getKey().getName())
-                        .availableTimes(entry.getValue())
+                        .tutorId(entry.getKey())
+                        .tutorName(availabilitySlotIndex.getTutorName(entry.getKey()))
+                        .availableTimes(SlotMaskUtils.toTimes(entry.getValue()))
                         .build())
                 .toList();
     }
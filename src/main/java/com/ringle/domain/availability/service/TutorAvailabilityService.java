@@ -3,16 +3,25 @@ package com.ringle.domain.availability.service;
 import com.ringle.common.exception.BusinessException;
 import com.ringle.common.exception.ExceptionCode;
 import com.ringle.domain.availability.dto.request.AvailabilityRequestDto;
+import com.ringle.domain.availability.dto.request.BulkAvailabilityRequestDto;
 import com.ringle.domain.availability.dto.response.AvailabilityResponseDto;
+import com.ringle.domain.availability.dto.response.BulkAvailabilityResponseDto;
 import com.ringle.domain.availability.entity.Availability;
+import com.ringle.domain.availability.event.AvailabilityChangedEvent;
+import com.ringle.domain.availability.repository.AvailabilityJdbcRepository;
 import com.ringle.domain.availability.repository.AvailabilityRepository;
+import com.ringle.domain.availability.util.SlotMaskUtils;
 import com.ringle.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * 수업 가능 시간 관련 비즈니스 로직
@@ -21,7 +30,12 @@ import java.util.List;
 @RequiredArgsConstructor
 public class TutorAvailabilityService {
 
+    // 일괄 등록 최대 슬롯 수 (31일 × 48슬롯 = 1488)
+    private static final int MAX_BULK_SLOTS = 2000;
+
     private final AvailabilityRepository availabilityRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AvailabilityJdbcRepository availabilityJdbcRepository;
 
     /**
      * 수업 가능 시간 등록
@@ -63,7 +77,67 @@ public class TutorAvailabilityService {
                     .build();
 
             availabilityRepository.save(availability);
+            eventPublisher.publishEvent(AvailabilityChangedEvent.created(availability));
+        }
+    }
+
+    /**
+     * 수업 가능 시간 일괄 등록
+     * - 구간 [startTime, endTime)을 30분 슬롯으로 나눠 등록 (구간 간 중복 슬롯은 한 번만)
+     * - 슬롯마다 존재 확인 + save 하지 않고, 묶음 INSERT + 등록된 슬롯 조회 1회로 처리
+     * - 이미 등록된 슬롯(동시에 등록된 슬롯 포함)은 유니크 제약으로 걸러 건너뜀
+     * - 실제로 INSERT된 슬롯만 등록 건수와 등록 이벤트에 반영
+     */
+    @Transactional
+    public BulkAvailabilityResponseDto createAvailabilities(BulkAvailabilityRequestDto request, User tutor) {
+        Set<LocalDateTime> requested = toSlotStarts(request.getRanges());
+
+        List<LocalDateTime> created = availabilityJdbcRepository.insertSlots(
+                tutor.getId(), new ArrayList<>(requested), LocalDateTime.now());
+
+        if (!created.isEmpty()) {
+            // 등록된 슬롯 ID로 등록 이벤트 발행 (인덱스/캐시 갱신)
+            availabilityRepository.findByTutorIdAndStartTimeIn(tutor.getId(), created)
+                    .forEach(a -> eventPublisher.publishEvent(AvailabilityChangedEvent.created(a)));
         }
+
+        return BulkAvailabilityResponseDto.builder()
+                .requestedCount(requested.size())
+                .createdCount(created.size())
+                .skippedCount(requested.size() - created.size())
+                .build();
+    }
+
+    /**
+     * 구간 목록 → 30분 슬롯 시작 시각 (검증 포함)
+     */
+    private Set<LocalDateTime> toSlotStarts(List<BulkAvailabilityRequestDto.Range> ranges) {
+        LocalDateTime now = LocalDateTime.now();
+        Set<LocalDateTime> starts = new TreeSet<>();
+
+        for (BulkAvailabilityRequestDto.Range range : ranges) {
+            LocalDateTime start = range.getStartTime();
+            LocalDateTime end = range.getEndTime();
+
+            if (start.isBefore(now)) {
+                throw new BusinessException(ExceptionCode.AVAILABILITY_TIME_PASSED);
+            }
+            if (!isSlotBoundary(start) || !isSlotBoundary(end) || !start.isBefore(end)) {
+                throw new BusinessException(ExceptionCode.INVALID_AVAILABILITY_RANGE);
+            }
+
+            for (LocalDateTime slot = start; slot.isBefore(end); slot = slot.plusMinutes(SlotMaskUtils.SLOT_MINUTES)) {
+                starts.add(slot);
+                if (starts.size() > MAX_BULK_SLOTS) {
+                    throw new BusinessException(ExceptionCode.INVALID_AVAILABILITY_RANGE);
+                }
+            }
+        }
+        return starts;
+    }
+
+    private boolean isSlotBoundary(LocalDateTime time) {
+        return (time.getMinute() == 0 || time.getMinute() == 30) && time.getSecond() == 0 && time.getNano() == 0;
     }
 
     /**
@@ -88,6 +162,7 @@ public class TutorAvailabilityService {
         }
 
         availabilityRepository.delete(availability);
+        eventPublisher.publishEvent(AvailabilityChangedEvent.deleted(availability));
     }
 
     /**
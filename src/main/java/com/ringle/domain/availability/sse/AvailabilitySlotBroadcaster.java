@@ -0,0 +1,262 @@
+package com.ringle.domain.availability.sse;
+
+import com.ringle.common.exception.BusinessException;
+import com.ringle.common.exception.ExceptionCode;
+import com.ringle.domain.availability.dto.response.SlotChangeEventDto;
+import com.ringle.domain.availability.event.AvailabilityChangedEvent;
+import com.ringle.domain.availability.util.SlotMaskUtils;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 날짜별 수업 가능 시간 변경 실시간 전송 (Server-Sent Events)
+ * - 구독자는 (날짜, 튜터[선택]) 단위로 등록, 슬롯 변경 이벤트(커밋 후)를 해당 구독자에게 전달
+ * - 연결은 비동기 서블릿(SseEmitter)으로 유지하므로 요청 스레드를 점유하지 않음
+ * - 전송은 구독자별 대기열을 가상 스레드가 순서대로 비움 (느린 연결이 커밋 스레드나 다른 구독자를 막지 않음)
+ * - 다른 노드의 변경은 전달되지 않으므로 다중 노드 배포 시 클라이언트는 재연결 후 재조회로 보정
+ */
+@Slf4j
+@Component
+public class AvailabilitySlotBroadcaster {
+
+    // 클라이언트 재연결 간격
+    private static final long RECONNECT_MILLIS = 3000L;
+
+    // 구독자별 전송 대기 최대 이벤트 수 (초과 시 느린 연결로 보고 종료 → 재연결 후 재조회)
+    private static final int MAX_PENDING = 256;
+
+    private final long timeoutMillis;
+    private final int maxSubscribers;
+
+    // 날짜 → 구독자
+    private final ConcurrentHashMap<LocalDate, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private final ExecutorService sender = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("slot-sse-", 0).factory());
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("slot-sse-heartbeat").daemon(true).factory());
+
+    public AvailabilitySlotBroadcaster(@Value("${ringle.availability.sse.timeout:30m}") Duration timeout,
+                                       @Value("${ringle.availability.sse.heartbeat:15s}") Duration heartbeatInterval,
+                                       @Value("${ringle.availability.sse.max-subscribers:10000}") int maxSubscribers) {
+        this.timeoutMillis = timeout.toMillis();
+        this.maxSubscribers = maxSubscribers;
+
+        // 유휴 연결이 프록시에서 끊기지 않도록, 끊긴 연결은 전송 실패로 정리되도록 주기적으로 주석 전송
+        long interval = heartbeatInterval.toMillis();
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeats, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 날짜별 슬롯 변경 구독
+     *
+     * @param tutorId 지정 시 해당 튜터의 슬롯 변경만 전달
+     */
+    public SseEmitter subscribe(LocalDate date, Long tutorId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new BusinessException(ExceptionCode.TOO_MANY_SUBSCRIBERS);
+        }
+
+        SseEmitter emitter = newEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(date, tutorId, emitter);
+        subscribers.compute(date, (d, set) -> {
+            Set<Subscriber> target = (set == null) ? ConcurrentHashMap.newKeySet() : set;
+            target.add(subscriber);
+            return target;
+        });
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        // 연결 직후 재연결 간격 전달 (응답 헤더가 바로 전송됨)
+        subscriber.enqueue(SlotMessage.SUBSCRIBED);
+        return emitter;
+    }
+
+    /**
+     * 연결 생성 (테스트에서 전송 내용을 확인할 수 있도록 분리)
+     */
+    SseEmitter newEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    /**
+     * 슬롯 변경 이벤트 전달 (트랜잭션 커밋 후)
+     * - 커밋 스레드에서는 구독자 대기열에 넣기만 함
+     * - 00:00 슬롯은 전날 23:30 시작 60분 수업 판단에도 쓰이므로 전날 구독자에게도 전달
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAvailabilityChanged(AvailabilityChangedEvent event) {
+        if (subscriberCount.get() == 0) return;
+
+        SlotMessage message = SlotMessage.of(event);
+        LocalDate date = event.date();
+        deliver(date, event.tutorId(), message);
+        if (SlotMaskUtils.slotIndex(date, event.startTime()) == 0) {
+            deliver(date.minusDays(1), event.tutorId(), message);
+        }
+    }
+
+    private void deliver(LocalDate date, Long tutorId, SlotMessage message) {
+        Set<Subscriber> targets = subscribers.get(date);
+        if (targets == null) return;
+
+        for (Subscriber subscriber : targets) {
+            if (subscriber.tutorId == null || subscriber.tutorId.equals(tutorId)) {
+                subscriber.enqueue(message);
+            }
+        }
+    }
+
+    private void sendHeartbeats() {
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.enqueue(SlotMessage.HEARTBEAT)));
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) return;
+
+        subscriberCount.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.date, (d, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /**
+     * 종료 시 연결을 모두 닫아 클라이언트가 다른 노드로 재연결하도록 함
+     */
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter.complete()));
+        sender.shutdown();
+    }
+
+    /**
+     * 전송할 SSE 메시지 (SseEventBuilder는 전송마다 새로 만들어야 하므로 내용만 보관)
+     *
+     * @param name 이벤트 이름 (null이면 주석)
+     */
+    private record SlotMessage(String name, Object data) {
+
+        static final SlotMessage SUBSCRIBED = new SlotMessage(null, "subscribed");
+        static final SlotMessage HEARTBEAT = new SlotMessage(null, "heartbeat");
+
+        static SlotMessage of(AvailabilityChangedEvent event) {
+            String name = switch (event.type()) {
+                case CREATED -> "slot-added";
+                case DELETED -> "slot-removed";
+                case BOOKED -> "slot-booked";
+            };
+            return new SlotMessage(name, SlotChangeEventDto.builder()
+                    .type(event.type())
+                    .availabilityId(event.availabilityId())
+                    .tutorId(event.tutorId())
+                    .startTime(event.startTime())
+                    .build());
+        }
+
+        SseEmitter.SseEventBuilder toEvent() {
+            if (name == null) {
+                return SseEmitter.event().comment(String.valueOf(data)).reconnectTime(RECONNECT_MILLIS);
+            }
+            return SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    /**
+     * 구독자 (대기열은 한 번에 하나의 가상 스레드만 비움 → 전송 순서 유지)
+     */
+    private class Subscriber {
+
+        private final LocalDate date;
+        private final Long tutorId;
+        private final SseEmitter emitter;
+
+        private final Queue<SlotMessage> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        Subscriber(LocalDate date, Long tutorId, SseEmitter emitter) {
+            this.date = date;
+            this.tutorId = tutorId;
+            this.emitter = emitter;
+        }
+
+        void enqueue(SlotMessage message) {
+            if (closed.get()) return;
+
+            if (pendingCount.incrementAndGet() > MAX_PENDING) {
+                log.warn("Closing slow SSE subscriber: date={}, tutorId={}", date, tutorId);
+                remove(this);
+                emitter.complete();
+                return;
+            }
+            pending.add(message);
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) return;
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // 종료 중
+                draining.set(false);
+            }
+        }
+
+        private void drain() {
+            SlotMessage message;
+            while (!closed.get() && (message = pending.poll()) != null) {
+                pendingCount.decrementAndGet();
+                try {
+                    emitter.send(message.toEvent());
+                } catch (IOException | IllegalStateException e) {
+                    // 클라이언트 연결 끊김 또는 이미 완료된 연결 → 구독만 해제하고 전송 중단
+                    // (이미 실패한 비동기 요청이므로 completeWithError로 다시 디스패치하지 않고, 정리는 컨테이너의 onError / onCompletion 콜백에 맡김)
+                    remove(this);
+                }
+            }
+            draining.set(false);
+
+            if (closed.get()) {
+                pending.clear();
+                return;
+            }
+            // 비우는 도중 들어온 메시지 처리
+            if (!pending.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
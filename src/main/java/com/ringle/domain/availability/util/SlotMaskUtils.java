@@ -0,0 +1,102 @@
+package com.ringle.domain.availability.util;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 하루 30분 슬롯을 long 비트마스크로 다루는 유틸리티
+ * - 00:00 → bit 0, 00:30 → bit 1, ..., 23:30 → bit 47
+ * - bit 48은 다음날 00:00 (23:30 시작 60분 수업 판단용)
+ */
+public final class SlotMaskUtils {
+
+    public static final int SLOT_MINUTES = 30;
+    public static final int SLOTS_PER_DAY = 48;
+
+    // 당일 48개 슬롯 전체
+    public static final long DAY_MASK = (1L << SLOTS_PER_DAY) - 1;
+
+    private SlotMaskUtils() {
+    }
+
+    /**
+     * 날짜 기준 슬롯 번호 계산 (다음날 00:00 → 48)
+     */
+    public static int slotIndex(LocalDate date, LocalDateTime time) {
+        return (int) (Duration.between(date.atStartOfDay(), time).toMinutes() / SLOT_MINUTES);
+    }
+
+    /**
+     * 시작 시각 목록을 비트마스크로 변환
+     * - 00:00 ~ 다음날 00:00 범위 밖의 시각은 무시
+     */
+    public static long toMask(LocalDate date, Collection<LocalDateTime> startTimes) {
+        long mask = 0L;
+        for (LocalDateTime startTime : startTimes) {
+            int slot = slotIndex(date, startTime);
+            if (slot >= 0 && slot <= SLOTS_PER_DAY) {
+                mask |= 1L << slot;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * 60분 수업 시작 가능 슬롯 (t, t+30 모두 열린 슬롯)
+     */
+    public static long sixtyMinuteStarts(long mask) {
+        return mask & (mask >>> 1);
+    }
+
+    /**
+     * 지정 슬롯 이후(포함) 당일 슬롯만 남기는 마스크
+     */
+    public static long fromSlot(int slot) {
+        if (slot <= 0) return DAY_MASK;
+        if (slot >= SLOTS_PER_DAY) return 0L;
+        return DAY_MASK & (-1L << slot);
+    }
+
+    /**
+     * [fromSlot, toSlot) 구간 슬롯 마스크
+     */
+    public static long rangeMask(int fromSlot, int toSlot) {
+        if (fromSlot >= toSlot) return 0L;
+        long upper = (toSlot >= Long.SIZE) ? -1L : (1L << toSlot) - 1;
+        long lower = (1L << fromSlot) - 1;
+        return upper & ~lower;
+    }
+
+    /**
+     * 시각 → 당일 슬롯 번호 (00:00 → 0, 23:30 → 47)
+     */
+    public static int slotIndex(LocalTime time) {
+        return (time.getHour() * 60 + time.getMinute()) / SLOT_MINUTES;
+    }
+
+    /**
+     * 슬롯 번호 → "HH:mm"
+     */
+    public static String toTime(int slot) {
+        return LocalTime.MIN.plusMinutes((long) slot * SLOT_MINUTES).toString();
+    }
+
+    /**
+     * 당일 비트마스크를 시간 문자열 목록으로 변환 (오름차순)
+     */
+    public static List<String> toTimes(long mask) {
+        List<String> times = new ArrayList<>(Long.bitCount(mask & DAY_MASK));
+        long remaining = mask & DAY_MASK;
+        while (remaining != 0) {
+            int slot = Long.numberOfTrailingZeros(remaining);
+            times.add(toTime(slot));
+            remaining &= remaining - 1;
+        }
+        return times;
+    }
+}
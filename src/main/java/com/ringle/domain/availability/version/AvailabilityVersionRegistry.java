@@ -0,0 +1,77 @@
+package com.ringle.domain.availability.version;
+
+import com.ringle.domain.availability.event.AvailabilityChangedEvent;
+import com.ringle.domain.availability.util.SlotMaskUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 날짜별 수업 가능 시간 버전 관리 (조건부 GET용 ETag)
+ * - 해당 날짜 슬롯의 등록/삭제/예약 이벤트(커밋 후)마다 버전 증가
+ * - 노드 기동 시마다 임의의 epoch를 사용하므로 재기동 후 이전 ETag와 겹치지 않음
+ * - 다른 노드의 변경은 반영되지 않으므로 max-age 단위로 ETag를 갱신하여 지연을 제한
+ */
+@Component
+public class AvailabilityVersionRegistry {
+
+    private final long nodeEpoch = ThreadLocalRandom.current().nextLong(Long.MAX_VALUE);
+    private final long maxAgeMillis;
+
+    // 날짜 → 버전 (변경이 없던 날짜는 0)
+    private final ConcurrentSkipListMap<LocalDate, AtomicLong> versions = new ConcurrentSkipListMap<>();
+
+    public AvailabilityVersionRegistry(@Value("${ringle.availability.etag.max-age:30s}") Duration maxAge) {
+        this.maxAgeMillis = maxAge.toMillis();
+    }
+
+    /**
+     * 슬롯 변경 이벤트 반영 (트랜잭션 커밋 후)
+     * - 00:00 슬롯은 전날 23:30 시작 60분 수업 판단에도 쓰이므로 전날 버전도 증가
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAvailabilityChanged(AvailabilityChangedEvent event) {
+        LocalDate date = event.date();
+        bump(date);
+        if (SlotMaskUtils.slotIndex(date, event.startTime()) == 0) {
+            bump(date.minusDays(1));
+        }
+
+        // 지난 날짜는 더 이상 조회되지 않으므로 제거
+        versions.headMap(LocalDate.now()).clear();
+    }
+
+    public long version(LocalDate date) {
+        AtomicLong version = versions.get(date);
+        return (version == null) ? 0L : version.get();
+    }
+
+    /**
+     * 날짜별 ETag
+     * - 노드 epoch + max-age 구간 + 날짜 버전
+     * - 오늘은 현재 시각에 따라 조회 시작 슬롯이 바뀌므로 현재 슬롯 번호 포함
+     */
+    public String etag(LocalDate date) {
+        StringBuilder etag = new StringBuilder("\"")
+                .append(Long.toHexString(nodeEpoch))
+                .append('-').append(System.currentTimeMillis() / maxAgeMillis)
+                .append('-').append(version(date));
+
+        if (date.isEqual(LocalDate.now())) {
+            etag.append('-').append(SlotMaskUtils.slotIndex(date, LocalDateTime.now()));
+        }
+        return etag.append('"').toString();
+    }
+
+    private void bump(LocalDate date) {
+        versions.computeIfAbsent(date, d -> new AtomicLong()).incrementAndGet();
+    }
+}
@@ -0,0 +1,92 @@
+package com.ringle.domain.lesson.controller;
+
+import com.ringle.domain.lesson.dto.response.CalendarFeedResponseDto;
+import com.ringle.domain.lesson.service.CalendarFeedService;
+import com.ringle.domain.lesson.service.CalendarFeedService.CalendarFeed;
+import com.ringle.security.CustomUserDetails;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 수업 캘린더 피드(.ics) API
+ * - 로그인 사용자가 구독 URL을 발급받아 캘린더 앱에 등록, 유출 시 재발급하여 이전 URL 폐기
+ * - 피드 조회는 JWT 없이 URL의 피드 토큰으로 검증
+ * - 항상 조회 범위 전체를 반환하고, ETag / If-None-Match로 변경 여부 확인 (변경 없으면 304)
+ */
+@RestController
+@RequestMapping("/api/calendar")
+@RequiredArgsConstructor
+public class CalendarFeedController {
+
+    private static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+
+    private final CalendarFeedService calendarFeedService;
+
+    /**
+     * 캘린더 피드 구독 URL 발급
+     */
+    @Operation(summary = "캘린더 피드 URL 발급", description = "현재 로그인한 사용자의 수업 일정을 캘린더 앱에서 구독할 수 있는 .ics URL을 반환합니다.")
+    @GetMapping("/feed")
+    public ResponseEntity<?> getFeedUrl(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        String path = calendarFeedService.getFeedPath(userDetails.getUser().getId());
+        return ResponseEntity.ok(Map.of("code", 200, "data", toResponse(path)));
+    }
+
+    /**
+     * 캘린더 피드 구독 URL 재발급
+     * - 이전 URL은 즉시 무효 (캘린더 앱에 새 URL을 다시 등록해야 함)
+     */
+    @Operation(summary = "캘린더 피드 URL 재발급", description = "피드 키를 새로 발급하여 이전 구독 URL을 무효화하고 새 .ics URL을 반환합니다.")
+    @PostMapping("/feed/rotate")
+    public ResponseEntity<?> rotateFeedUrl(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        String path = calendarFeedService.rotateFeedPath(userDetails.getUser().getId());
+        return ResponseEntity.ok(Map.of("code", 200, "data", toResponse(path)));
+    }
+
+    /**
+     * 캘린더 피드 조회 (.ics)
+     * - 전체 캘린더를 메모리에 만들지 않고 수업 한 건씩 스트리밍
+     * - 구독 앱은 피드에 없는 일정을 삭제하므로 변경분만 반환하지 않음
+     * - Last-Modified는 초 단위라 같은 초 안의 변경을 놓치므로 보내지 않고 ETag로만 304 판단
+     */
+    @Operation(summary = "캘린더 피드 조회", description = "수업 일정을 iCalendar(.ics) 형식으로 반환합니다. If-None-Match의 ETag가 같으면 304를 반환합니다.")
+    @GetMapping(value = "/feeds/{userId}/{token}.ics", produces = "text/calendar")
+    public ResponseEntity<StreamingResponseBody> getFeed(
+            @PathVariable Long userId,
+            @PathVariable String token,
+            WebRequest webRequest
+    ) {
+        // 응답 시작 후에는 오류 응답으로 전환할 수 없으므로 먼저 검증
+        CalendarFeed feed = calendarFeedService.openFeed(userId, token);
+
+        // ETag가 같으면 조회 없이 304
+        if (webRequest.checkNotModified(feed.etag())) {
+            return null;
+        }
+
+        StreamingResponseBody body = out -> calendarFeedService.writeFeed(feed,
+                new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+        return ResponseEntity.ok()
+                .contentType(TEXT_CALENDAR)
+                .cacheControl(CacheControl.noCache())
+                .body(body);
+    }
+
+    private CalendarFeedResponseDto toResponse(String path) {
+        String url = ServletUriComponentsBuilder.fromCurrentContextPath().path(path).toUriString();
+        return CalendarFeedResponseDto.builder().url(url).build();
+    }
+}
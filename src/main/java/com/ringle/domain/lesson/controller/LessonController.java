@@ -1,17 +1,27 @@
 package com.ringle.domain.lesson.controller;
 
+import com.ringle.common.idempotency.IdempotencyService;
 import com.ringle.domain.lesson.dto.request.LessonRequestDto;
+import com.ringle.domain.lesson.dto.request.LessonSeriesRequestDto;
+import com.ringle.domain.lesson.dto.response.BookingTicketResponseDto;
 import com.ringle.domain.lesson.dto.response.LessonInfoResponseDto;
+import com.ringle.domain.lesson.dto.response.LessonPageResponseDto;
+import com.ringle.domain.lesson.dto.response.LessonSeriesResponseDto;
+import com.ringle.domain.lesson.service.BookingTicketService;
 import com.ringle.domain.lesson.service.LessonService;
 import com.ringle.security.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 학생이 신청한 수업 조회 API 컨트롤러
@@ -22,6 +32,8 @@ import java.util.Map;
 public class LessonController {
 
     private final LessonService lessonService;
+    private final IdempotencyService idempotencyService;
+    private final BookingTicketService bookingTicketService;
 
     /**
      * 학생이 신청한 모든 수업 조회
@@ -35,17 +47,90 @@ public class LessonController {
         return ResponseEntity.ok(Map.of("code", 200, "data", lessons));
     }
 
+    /**
+     * 학생이 신청한 수업 페이지 조회
+     * - 시간 역순, cursor 기반 페이지네이션 (첫 페이지는 cursor 없이 요청)
+     * - 응답의 nextCursor로 다음 페이지 조회 (마지막 페이지면 null)
+     */
+    @Operation(summary = "학생 수업 페이지 조회", description = "현재 로그인한 학생이 신청한 수업을 최신순으로 size개씩 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
+    @GetMapping("/page")
+    public ResponseEntity<?> getMyLessonPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        LessonPageResponseDto page = lessonService.getLessonPage(userDetails.getUser(), cursor, size);
+        return ResponseEntity.ok(Map.of("code", 200, "data", page));
+    }
+
     /**
      * 수업 신청
      * - 학생이 수업을 예약할 수 있도록 요청 처리
+     * - Idempotency-Key 헤더가 있으면 같은 키의 재시도는 처음 요청의 응답을 그대로 반환
      */
     @PostMapping("/book")
-    @Operation(summary = "수업 신청", description = "수업 시간, 길이, 튜터 정보를 바탕으로 수업을 신청합니다.")
+    @Operation(summary = "수업 신청", description = "수업 시간, 길이, 튜터 정보를 바탕으로 수업을 신청합니다. "
+            + "Idempotency-Key 헤더를 보내면 같은 키로 재시도해도 한 번만 신청됩니다.")
     public ResponseEntity<?> bookLesson(
-            @RequestBody LessonRequestDto request,
+            @Valid @RequestBody LessonRequestDto request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        Object body = idempotencyService.execute(idempotencyKey, userDetails.getUser().getId(), request, () -> {
+            lessonService.bookLesson(request, userDetails.getUser());
+            return Map.of("code", 200, "message", "수업이 성공적으로 신청되었습니다.");
+        });
+        return ResponseEntity.ok(body);
+    }
+
+    /**
+     * 비동기 수업 신청
+     * - 대기열에 넣고 바로 202 + 접수 번호 반환 (신청 결과는 접수 조회 API로 확인)
+     * - 대기열이 가득 차면 503
+     */
+    @PostMapping("/book/async")
+    @Operation(summary = "비동기 수업 신청", description = "수업 신청을 대기열에 접수하고 접수 번호를 반환합니다. 결과는 접수 조회 API로 확인합니다.")
+    public ResponseEntity<?> bookLessonAsync(
+            @Valid @RequestBody LessonRequestDto request,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        BookingTicketResponseDto ticket = bookingTicketService.submit(request, userDetails.getUser());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of("code", 202, "data", ticket));
+    }
+
+    /**
+     * 비동기 수업 신청 결과 조회
+     * - waitSeconds > 0 이면 처리 중일 때 완료될 때까지 최대 waitSeconds 동안 기다렸다가 응답 (long polling)
+     * - 대기하는 동안 요청 스레드는 반환됨
+     */
+    @GetMapping("/book/tickets/{ticketId}")
+    @Operation(summary = "비동기 수업 신청 결과 조회", description = "접수 번호로 신청 결과(PENDING / BOOKED / FAILED)를 조회합니다. waitSeconds를 주면 완료될 때까지 기다렸다가 응답합니다.")
+    public CompletableFuture<ResponseEntity<?>> getBookingTicket(
+            @PathVariable String ticketId,
+            @RequestParam(defaultValue = "0") long waitSeconds,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        return bookingTicketService.getTicket(ticketId, userDetails.getUser(), Duration.ofSeconds(waitSeconds))
+                .<ResponseEntity<?>>thenApply(ticket -> ResponseEntity.ok(Map.of("code", 200, "data", ticket)));
+    }
+
+    /**
+     * 반복 수업 신청
+     * - 첫 수업 시간부터 매주 같은 요일/시각으로 여러 회차를 한 번에 신청
+     * - ALL_OR_NOTHING(기본): 전체 회차가 가능할 때만 신청 / BEST_EFFORT: 가능한 회차만 신청
+     */
+    @PostMapping("/book/series")
+    @Operation(summary = "반복 수업 신청", description = "매주 같은 요일/시각의 수업을 여러 회차 한 번에 신청하고, 회차별 신청 결과를 반환합니다. "
+            + "Idempotency-Key 헤더를 보내면 같은 키로 재시도해도 한 번만 신청됩니다.")
+    public ResponseEntity<?> bookLessonSeries(
+            @Valid @RequestBody LessonSeriesRequestDto request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
-        lessonService.bookLesson(request, userDetails.getUser());
-        return ResponseEntity.ok(Map.of("code", 200, "message", "수업이 성공적으로 신청되었습니다."));
+        Object body = idempotencyService.execute(idempotencyKey, userDetails.getUser().getId(), request, () -> {
+            LessonSeriesResponseDto result = lessonService.bookLessonSeries(request, userDetails.getUser());
+            return Map.of("code", 200, "data", result);
+        });
+        return ResponseEntity.ok(body);
     }
 }
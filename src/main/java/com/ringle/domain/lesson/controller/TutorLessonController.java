@@ -0,0 +1,42 @@
+package com.ringle.domain.lesson.controller;
+
+import com.ringle.domain.lesson.dto.response.TutorLessonResponseDto;
+import com.ringle.domain.lesson.service.TutorLessonService;
+import com.ringle.security.CustomUserDetails;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 튜터 수업 일정 조회 API 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/tutor/lessons")
+@RequiredArgsConstructor
+public class TutorLessonController {
+
+    private final TutorLessonService tutorLessonService;
+
+    /**
+     * 튜터에게 신청된 수업 일정 조회
+     * - 기간: from ~ to (종료일 포함, 최대 31일)
+     * - 정렬: 시작 시간 오름차순
+     */
+    @Operation(summary = "튜터 수업 일정 조회", description = "현재 로그인한 튜터에게 신청된 수업을 기간(최대 31일) 내 시작 시간 순으로 조회합니다.")
+    @GetMapping
+    public ResponseEntity<?> getMyLessons(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        List<TutorLessonResponseDto> lessons = tutorLessonService.getLessonsByTutor(userDetails.getUser(), from, to);
+        return ResponseEntity.ok(Map.of("code", 200, "data", lessons));
+    }
+}
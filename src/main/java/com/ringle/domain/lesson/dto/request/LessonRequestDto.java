@@ -1,6 +1,7 @@
 package com.ringle.domain.lesson.dto.request;
 
 import com.ringle.domain.lesson.entity.enums.DurationType;
+import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import lombok.Getter;
 
@@ -12,8 +13,15 @@ import java.time.LocalDateTime;
  */
 @Data
 public class LessonRequestDto {
+
+    @NotNull(message = "튜터 ID는 필수입니다.")
     private Long tutorId;
+
+    @NotNull(message = "시작 시간은 필수입니다.")
     private LocalDateTime startTime;
+
+    @NotNull(message = "수업 길이는 필수입니다.")
     private DurationType durationType;
+
     private boolean allowAlternativeTutor;
 }
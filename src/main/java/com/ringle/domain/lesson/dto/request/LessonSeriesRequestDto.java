@@ -0,0 +1,30 @@
+package com.ringle.domain.lesson.dto.request;
+
+import com.ringle.domain.lesson.entity.enums.DurationType;
+import com.ringle.domain.lesson.entity.enums.SeriesBookingMode;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 반복 수업 신청 요청 DTO
+ * - 첫 수업 시간부터 매주 같은 요일/시각으로 occurrences회 신청
+ */
+@Data
+public class LessonSeriesRequestDto {
+
+    @NotNull(message = "튜터 ID는 필수입니다.")
+    private Long tutorId;
+
+    @NotNull(message = "시작 시간은 필수입니다.")
+    private LocalDateTime startTime; // 첫 회차 시작 시각
+
+    @NotNull(message = "수업 길이는 필수입니다.")
+    private DurationType durationType;
+
+    private int occurrences; // 회차 수 (최대 52)
+
+    @NotNull(message = "신청 방식은 필수입니다.")
+    private SeriesBookingMode mode = SeriesBookingMode.ALL_OR_NOTHING;
+}
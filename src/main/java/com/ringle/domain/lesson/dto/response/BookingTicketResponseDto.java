@@ -0,0 +1,21 @@
+package com.ringle.domain.lesson.dto.response;
+
+import com.ringle.domain.lesson.entity.enums.BookingTicketStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 수업 신청 접수 응답 DTO
+ * - 실패한 경우만 errorCode / message 포함
+ */
+@Getter
+@Builder
+public class BookingTicketResponseDto {
+    private String ticketId;
+    private BookingTicketStatus status;
+    private String errorCode;
+    private String message;
+    private LocalDateTime requestedAt;
+}
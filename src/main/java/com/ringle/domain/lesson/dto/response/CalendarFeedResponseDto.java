@@ -0,0 +1,13 @@
+package com.ringle.domain.lesson.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 캘린더 피드 구독 URL 응답 DTO
+ */
+@Getter
+@Builder
+public class CalendarFeedResponseDto {
+    private String url;
+}
@@ -0,0 +1,18 @@
+package com.ringle.domain.lesson.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 수업 목록 페이지 응답 DTO
+ * - nextCursor: 다음 페이지 조회 시 전달할 커서 (마지막 페이지면 null)
+ */
+@Getter
+@Builder
+public class LessonPageResponseDto {
+    private List<LessonInfoResponseDto> lessons;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,20 @@
+package com.ringle.domain.lesson.dto.response;
+
+import com.ringle.domain.lesson.entity.enums.SeriesBookingMode;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 반복 수업 신청 응답 DTO
+ * - 신청 방식, 요청/신청 회차 수, 회차별 결과
+ */
+@Getter
+@Builder
+public class LessonSeriesResponseDto {
+    private SeriesBookingMode mode;
+    private int requestedCount;
+    private int bookedCount;
+    private List<OccurrenceResultDto> occurrences;
+}
@@ -0,0 +1,18 @@
+package com.ringle.domain.lesson.dto.response;
+
+import com.ringle.domain.lesson.entity.enums.OccurrenceStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 반복 수업 회차별 신청 결과 DTO
+ */
+@Getter
+@Builder
+public class OccurrenceResultDto {
+    private LocalDateTime startTime;
+    private OccurrenceStatus status;
+    private Long lessonId; // 신청된 경우만
+}
@@ -0,0 +1,23 @@
+package com.ringle.domain.lesson.dto.response;
+
+import com.ringle.domain.lesson.entity.enums.DurationType;
+import com.ringle.domain.lesson.entity.enums.LessonStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 튜터 수업 일정 응답 DTO
+ * - 튜터에게 신청된 수업과 신청한 학생 이름
+ */
+@Getter
+@Builder
+public class TutorLessonResponseDto {
+    private Long lessonId;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private DurationType durationType;
+    private LessonStatus status;
+    private String studentName;
+}
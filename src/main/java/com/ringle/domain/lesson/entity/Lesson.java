@@ -12,13 +12,19 @@ import java.time.LocalDateTime;
  * 수업 엔티티
  * - 학생이 튜터에게 신청한 수업 정보
  * - 한 수업은 하나의 학생, 하나의 튜터와 연결
+ * - (student_id, start_time): 학생별 수업 목록 조회용 인덱스
+ * - (tutor_id, start_time): 튜터별 수업 일정 조회용 인덱스
  */
 @Entity
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "lessons")
+@Table(name = "lessons",
+        indexes = {
+                @Index(name = "idx_lessons_student_start", columnList = "student_id, start_time"),
+                @Index(name = "idx_lessons_tutor_start", columnList = "tutor_id, start_time")
+        })
 public class Lesson {
 
     @Id
@@ -56,10 +62,20 @@ public class Lesson {
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
+    // 수업 수정 시각 (캘린더 피드 LAST-MODIFIED 및 ETag 기준)
+    private LocalDateTime updatedAt;
+
     // 생성 시 자동 설정
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    // 수정 시 자동 갱신
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
     }
 }
 
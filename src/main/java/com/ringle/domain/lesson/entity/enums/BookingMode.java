@@ -0,0 +1,10 @@
+package com.ringle.domain.lesson.entity.enums;
+
+/**
+ * 수업 신청 동시성 제어 방식 enum
+ */
+public enum BookingMode {
+    LOCK,      // 슬롯별 락(LockProvider) 안에서 슬롯 점유
+    OPTIMISTIC, // 락 없이 조건부 UPDATE로 슬롯 점유, 충돌 시 재시도
+    LANE        // 튜터별 단일 작성자 레인에서 순서대로 실행 (단일 노드 전용, 외부 락 없음)
+}
@@ -0,0 +1,10 @@
+package com.ringle.domain.lesson.entity.enums;
+
+/**
+ * 비동기 수업 신청 접수 상태 enum
+ */
+public enum BookingTicketStatus {
+    PENDING, // 대기열에서 처리 대기 중
+    BOOKED,  // 신청 완료
+    FAILED   // 신청 실패 (errorCode 참고)
+}
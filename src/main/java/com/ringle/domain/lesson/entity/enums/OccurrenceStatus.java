@@ -0,0 +1,10 @@
+package com.ringle.domain.lesson.entity.enums;
+
+/**
+ * 반복 수업 회차별 신청 결과 enum
+ */
+public enum OccurrenceStatus {
+    BOOKED,      // 신청 완료
+    UNAVAILABLE, // 슬롯이 없거나 이미 예약됨
+    NOT_BOOKED   // 가능했지만 ALL_OR_NOTHING 모드에서 다른 회차가 불가하여 신청하지 않음
+}
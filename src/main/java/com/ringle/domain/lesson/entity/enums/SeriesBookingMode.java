@@ -0,0 +1,9 @@
+package com.ringle.domain.lesson.entity.enums;
+
+/**
+ * 반복 수업 신청 방식 enum
+ */
+public enum SeriesBookingMode {
+    ALL_OR_NOTHING, // 전체 회차가 가능할 때만 신청
+    BEST_EFFORT     // 가능한 회차만 신청
+}
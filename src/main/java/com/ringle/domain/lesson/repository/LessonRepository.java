@@ -1,17 +1,134 @@
 package com.ringle.domain.lesson.repository;
 
 import com.ringle.domain.lesson.entity.Lesson;
+import com.ringle.domain.lesson.repository.projection.CalendarFeedVersion;
+import com.ringle.domain.lesson.repository.projection.CalendarLessonRow;
+import com.ringle.domain.lesson.repository.projection.LessonRow;
+import com.ringle.domain.lesson.repository.projection.TutorLessonRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * 수업을 위한 JPA Repository
+ * - 학생 수업 목록은 튜터를, 튜터 수업 일정은 학생을 JOIN한 projection으로 한 번에 조회 (읽기 전용, Replica 라우팅 대상)
  */
 @Repository
 public interface LessonRepository extends JpaRepository<Lesson, Long> {
 
-    // 특정 학생이 신청한 수업을 시간 역순으로 조회
-    List<Lesson> findByStudentIdOrderByStartTimeDesc(Long studentId);
+    /**
+     * 특정 학생이 신청한 수업을 시간 역순으로 조회 (튜터 이름/이메일 포함)
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.ringle.domain.lesson.repository.projection.LessonRow(" +
+            "l.id, l.startTime, l.endTime, l.durationType, l.status, t.name, t.email) " +
+            "FROM Lesson l JOIN l.tutor t " +
+            "WHERE l.student.id = :studentId " +
+            "ORDER BY l.startTime DESC, l.id DESC")
+    List<LessonRow> findLessonRowsByStudentId(@Param("studentId") Long studentId);
+
+    /**
+     * 학생 수업 목록 첫 페이지 (시간 역순, pageable로 개수 제한)
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.ringle.domain.lesson.repository.projection.LessonRow(" +
+            "l.id, l.startTime, l.endTime, l.durationType, l.status, t.name, t.email) " +
+            "FROM Lesson l JOIN l.tutor t " +
+            "WHERE l.student.id = :studentId " +
+            "ORDER BY l.startTime DESC, l.id DESC")
+    List<LessonRow> findLessonPage(@Param("studentId") Long studentId, Pageable pageable);
+
+    /**
+     * 학생 수업 목록 다음 페이지 (keyset)
+     * - 커서 (cursorStartTime, cursorId) 보다 뒤(과거)에 있는 수업만 조회하므로 OFFSET 없이 인덱스에서 바로 이어서 읽음
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.ringle.domain.lesson.repository.projection.LessonRow(" +
+            "l.id, l.startTime, l.endTime, l.durationType, l.status, t.name, t.email) " +
+            "FROM Lesson l JOIN l.tutor t " +
+            "WHERE l.student.id = :studentId " +
+            "AND (l.startTime < :cursorStartTime OR (l.startTime = :cursorStartTime AND l.id < :cursorId)) " +
+            "ORDER BY l.startTime DESC, l.id DESC")
+    List<LessonRow> findLessonPageAfter(@Param("studentId") Long studentId,
+                                        @Param("cursorStartTime") LocalDateTime cursorStartTime,
+                                        @Param("cursorId") Long cursorId,
+                                        Pageable pageable);
+
+    /**
+     * 튜터에게 신청된 기간 내 수업 조회 (학생 이름 포함)
+     * - 시작 시각 이상, 종료 시각 미만, 시작 시간 오름차순
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.ringle.domain.lesson.repository.projection.TutorLessonRow(" +
+            "l.id, l.startTime, l.endTime, l.durationType, l.status, s.name) " +
+            "FROM Lesson l JOIN l.student s " +
+            "WHERE l.tutor.id = :tutorId AND l.startTime >= :start AND l.startTime < :end " +
+            "ORDER BY l.startTime ASC")
+    List<TutorLessonRow> findTutorLessonsBetween(@Param("tutorId") Long tutorId,
+                                                 @Param("start") LocalDateTime start,
+                                                 @Param("end") LocalDateTime end);
+
+    /**
+     * 학생 캘린더 피드 버전 (시작 시각 이후 수업 수 + 마지막 수정 시각, ETag 계산용)
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.ringle.domain.lesson.repository.projection.CalendarFeedVersion(" +
+            "COUNT(l), MAX(COALESCE(l.updatedAt, l.createdAt))) FROM Lesson l " +
+            "WHERE l.student.id = :studentId AND l.startTime >= :from")
+    CalendarFeedVersion findStudentCalendarVersion(@Param("studentId") Long studentId,
+                                                   @Param("from") LocalDateTime from);
+
+    /**
+     * 튜터 캘린더 피드 버전 (시작 시각 이후 수업 수 + 마지막 수정 시각, ETag 계산용)
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.ringle.domain.lesson.repository.projection.CalendarFeedVersion(" +
+            "COUNT(l), MAX(COALESCE(l.updatedAt, l.createdAt))) FROM Lesson l " +
+            "WHERE l.tutor.id = :tutorId AND l.startTime >= :from")
+    CalendarFeedVersion findTutorCalendarVersion(@Param("tutorId") Long tutorId,
+                                                 @Param("from") LocalDateTime from);
+
+    /**
+     * 학생 캘린더 피드 스트리밍 조회
+     * - 시작 시각 이후 수업 전체, 시작 시간 오름차순 (구독 앱은 피드에 없는 일정을 삭제하므로 부분 조회하지 않음)
+     * - fetch size 단위로 읽음 (읽기 전용 트랜잭션 안에서 사용 후 close 필요)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.ringle.domain.lesson.repository.projection.CalendarLessonRow(" +
+            "l.id, l.startTime, l.endTime, l.status, COALESCE(l.updatedAt, l.createdAt), t.name, s.name) " +
+            "FROM Lesson l JOIN l.tutor t JOIN l.student s " +
+            "WHERE l.student.id = :studentId AND l.startTime >= :from " +
+            "ORDER BY l.startTime ASC")
+    Stream<CalendarLessonRow> streamStudentCalendar(@Param("studentId") Long studentId,
+                                                    @Param("from") LocalDateTime from);
+
+    /**
+     * 튜터 캘린더 피드 스트리밍 조회
+     * - 시작 시각 이후 수업 전체, 시작 시간 오름차순 (구독 앱은 피드에 없는 일정을 삭제하므로 부분 조회하지 않음)
+     * - fetch size 단위로 읽음 (읽기 전용 트랜잭션 안에서 사용 후 close 필요)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.ringle.domain.lesson.repository.projection.CalendarLessonRow(" +
+            "l.id, l.startTime, l.endTime, l.status, COALESCE(l.updatedAt, l.createdAt), t.name, s.name) " +
+            "FROM Lesson l JOIN l.tutor t JOIN l.student s " +
+            "WHERE l.tutor.id = :tutorId AND l.startTime >= :from " +
+            "ORDER BY l.startTime ASC")
+    Stream<CalendarLessonRow> streamTutorCalendar(@Param("tutorId") Long tutorId,
+                                                  @Param("from") LocalDateTime from);
 }
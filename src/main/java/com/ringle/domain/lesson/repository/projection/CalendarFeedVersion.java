@@ -0,0 +1,14 @@
+package com.ringle.domain.lesson.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캘린더 피드 버전 조회용 프로젝션
+ * - 수업 수: 수정 시각이 더 이른 수업이 늦게 커밋되어도 값이 바뀌도록 함께 사용
+ * - 마지막 수정 시각: 수업이 없으면 null
+ */
+public record CalendarFeedVersion(
+        Long count,
+        LocalDateTime lastModified
+) {
+}
@@ -0,0 +1,19 @@
+package com.ringle.domain.lesson.repository.projection;
+
+import com.ringle.domain.lesson.entity.enums.LessonStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캘린더 피드 조회용 프로젝션 (튜터/학생 이름을 JOIN으로 함께 조회)
+ */
+public record CalendarLessonRow(
+        Long lessonId,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        LessonStatus status,
+        LocalDateTime updatedAt,
+        String tutorName,
+        String studentName
+) {
+}
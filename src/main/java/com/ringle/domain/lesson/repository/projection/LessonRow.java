@@ -0,0 +1,21 @@
+package com.ringle.domain.lesson.repository.projection;
+
+import com.ringle.domain.lesson.entity.enums.DurationType;
+import com.ringle.domain.lesson.entity.enums.LessonStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수업 목록 조회용 프로젝션 (튜터 이름/이메일을 JOIN으로 함께 조회)
+ * - 수업마다 튜터 지연 로딩 쿼리가 발생하지 않도록 엔티티 대신 사용
+ */
+public record LessonRow(
+        Long lessonId,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        DurationType durationType,
+        LessonStatus status,
+        String tutorName,
+        String tutorEmail
+) {
+}
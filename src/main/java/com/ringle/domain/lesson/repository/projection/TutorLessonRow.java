@@ -0,0 +1,19 @@
+package com.ringle.domain.lesson.repository.projection;
+
+import com.ringle.domain.lesson.entity.enums.DurationType;
+import com.ringle.domain.lesson.entity.enums.LessonStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 튜터 수업 일정 조회용 프로젝션 (학생 이름을 JOIN으로 함께 조회)
+ */
+public record TutorLessonRow(
+        Long lessonId,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        DurationType durationType,
+        LessonStatus status,
+        String studentName
+) {
+}
@@ -0,0 +1,172 @@
+package com.ringle.domain.lesson.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ringle.common.exception.BusinessException;
+import com.ringle.common.exception.ExceptionCode;
+import com.ringle.domain.lesson.dto.request.LessonRequestDto;
+import com.ringle.domain.lesson.dto.response.BookingTicketResponseDto;
+import com.ringle.domain.lesson.entity.enums.BookingTicketStatus;
+import com.ringle.domain.user.entity.User;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 수업 신청 (접수 → 대기열 → 워커 처리)
+ * - 요청 스레드는 대기열에 넣고 바로 접수 번호(ticket)를 반환하므로, 락 대기 동안 Tomcat 스레드/커넥션을 붙잡지 않음
+ * - 대기열은 크기가 제한되어 있어 가득 차면 즉시 BOOKING_QUEUE_FULL
+ * - 처리 중인 접수는 대기열 크기(+워커 수)만큼만 존재하므로 별도 맵에 두어 크기 제한으로 밀려나지 않게 함
+ * - 처리가 끝난 결과는 완료 시점부터 ticket-ttl 동안, 최대 max-tickets개까지 보관
+ * - 조회 시 처리 중이면 최대 max-wait까지 기다렸다가 응답 (long polling)
+ * - 접수 내역은 노드 메모리에 있으므로 조회 요청도 같은 노드로 보내야 함
+ */
+@Slf4j
+@Service
+public class BookingTicketService {
+
+    private final LessonService lessonService;
+    private final ThreadPoolExecutor executor;
+
+    // 처리 중인 접수 (최대 workers + queue-capacity개)
+    private final Map<String, BookingTicket> pendingTickets = new ConcurrentHashMap<>();
+
+    // 처리 완료된 접수
+    private final Cache<String, BookingTicket> tickets;
+    private final Duration maxWait;
+
+    public BookingTicketService(LessonService lessonService,
+                                @Value("${ringle.booking.async.workers:8}") int workers,
+                                @Value("${ringle.booking.async.queue-capacity:500}") int queueCapacity,
+                                @Value("${ringle.booking.async.ticket-ttl:10m}") Duration ticketTtl,
+                                @Value("${ringle.booking.async.max-tickets:100000}") long maxTickets,
+                                @Value("${ringle.booking.async.max-wait:20s}") Duration maxWait) {
+        this.lessonService = lessonService;
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("booking-worker-", 0).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.tickets = Caffeine.newBuilder()
+                .maximumSize(maxTickets)
+                .expireAfterWrite(ticketTtl)
+                .build();
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * 수업 신청 접수
+     * - 워커에는 현재 인증 정보를 함께 넘김 (Replica 라우팅의 read-your-writes가 사용자 기준이므로)
+     */
+    public BookingTicketResponseDto submit(LessonRequestDto request, User student) {
+        BookingTicket ticket = new BookingTicket(UUID.randomUUID().toString(), student.getId());
+        pendingTickets.put(ticket.id, ticket);
+
+        try {
+            executor.execute(new DelegatingSecurityContextRunnable(() -> process(ticket, request, student)));
+        } catch (RejectedExecutionException e) {
+            pendingTickets.remove(ticket.id);
+            throw new BusinessException(ExceptionCode.BOOKING_QUEUE_FULL);
+        }
+        return ticket.toDto();
+    }
+
+    /**
+     * 접수 결과 조회
+     * - 처리 중이면 완료되거나 wait(최대 max-wait)가 지날 때까지 기다린 뒤 그 시점의 상태 반환
+     * - 본인이 접수한 내역만 조회 가능
+     */
+    public CompletableFuture<BookingTicketResponseDto> getTicket(String ticketId, User student, Duration wait) {
+        BookingTicket ticket = findTicket(ticketId);
+        if (ticket == null || !ticket.studentId.equals(student.getId())) {
+            throw new BusinessException(ExceptionCode.BOOKING_TICKET_NOT_FOUND);
+        }
+
+        Duration timeout = (wait.compareTo(maxWait) > 0) ? maxWait : wait;
+        if (ticket.done.isDone() || timeout.isZero() || timeout.isNegative()) {
+            return CompletableFuture.completedFuture(ticket.toDto());
+        }
+        return ticket.done
+                .thenApply(v -> ticket.toDto())
+                .completeOnTimeout(ticket.toDto(), timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 처리 중 → 완료 순으로 조회 (완료 시 결과 캐시에 먼저 넣고 처리 중 맵에서 빼므로 이동 중에도 조회됨)
+     */
+    private BookingTicket findTicket(String ticketId) {
+        BookingTicket ticket = pendingTickets.get(ticketId);
+        return (ticket != null) ? ticket : tickets.getIfPresent(ticketId);
+    }
+
+    private void process(BookingTicket ticket, LessonRequestDto request, User student) {
+        try {
+            lessonService.bookLesson(request, student);
+            ticket.finish(BookingTicketStatus.BOOKED, null, null);
+        } catch (BusinessException e) {
+            ticket.finish(BookingTicketStatus.FAILED, e.getCode().getCode(), e.getCode().getMessage());
+        } catch (RuntimeException e) {
+            log.error("Async booking failed: ticket={}", ticket.id, e);
+            ticket.finish(BookingTicketStatus.FAILED, null, "수업 신청 처리 중 오류가 발생했습니다.");
+        } finally {
+            tickets.put(ticket.id, ticket);
+            pendingTickets.remove(ticket.id);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 이미 접수된 신청은 처리 후 종료
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 접수 내역 (상태는 워커가 한 번만 변경)
+     */
+    private static class BookingTicket {
+
+        private final String id;
+        private final Long studentId;
+        private final LocalDateTime requestedAt = LocalDateTime.now();
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        private volatile BookingTicketStatus status = BookingTicketStatus.PENDING;
+        private volatile String errorCode;
+        private volatile String message;
+
+        BookingTicket(String id, Long studentId) {
+            this.id = id;
+            this.studentId = studentId;
+        }
+
+        void finish(BookingTicketStatus status, String errorCode, String message) {
+            this.errorCode = errorCode;
+            this.message = message;
+            this.status = status;
+            done.complete(null);
+        }
+
+        BookingTicketResponseDto toDto() {
+            return BookingTicketResponseDto.builder()
+                    .ticketId(id)
+                    .status(status)
+                    .errorCode(errorCode)
+                    .message(message)
+                    .requestedAt(requestedAt)
+                    .build();
+        }
+    }
+}
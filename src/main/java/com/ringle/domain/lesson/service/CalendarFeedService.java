@@ -0,0 +1,210 @@
+package com.ringle.domain.lesson.service;
+
+import com.ringle.common.exception.BusinessException;
+import com.ringle.common.exception.ExceptionCode;
+import com.ringle.domain.lesson.entity.enums.LessonStatus;
+import com.ringle.domain.lesson.repository.LessonRepository;
+import com.ringle.domain.lesson.repository.projection.CalendarFeedVersion;
+import com.ringle.domain.lesson.repository.projection.CalendarLessonRow;
+import com.ringle.domain.lesson.util.ICalendarWriter;
+import com.ringle.domain.user.entity.User;
+import com.ringle.domain.user.entity.enums.Role;
+import com.ringle.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 수업 캘린더 피드(.ics) 관련 비즈니스 로직
+ * - 캘린더 앱은 JWT를 보낼 수 없으므로 사용자 ID와 사용자별 피드 키의 HMAC 서명을 피드 URL에 포함하여 검증
+ * - 피드 키를 재발급하면 이전 URL은 더 이상 열리지 않음 (URL 유출 시 폐기)
+ * - 학생은 신청한 수업, 튜터는 신청받은 수업을 최근 past-days일 이후 시작 수업부터 제공
+ * - 구독 앱은 피드에 없는 일정을 삭제하므로 항상 범위 전체를 제공하고, 변경 여부는 ETag(If-None-Match)로만 판단
+ */
+@Service
+public class CalendarFeedService {
+
+    private static final String FEED_PATH = "/api/calendar/feeds/%d/%s.ics";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int FEED_KEY_BYTES = 32;
+
+    private final LessonRepository lessonRepository;
+    private final UserRepository userRepository;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final SecretKeySpec feedKey;
+    private final ZoneId zone;
+    private final int pastDays;
+
+    public CalendarFeedService(LessonRepository lessonRepository,
+                               UserRepository userRepository,
+                               @Value("${ringle.calendar.feed-secret}") String feedSecret,
+                               @Value("${ringle.calendar.zone:Asia/Seoul}") String zone,
+                               @Value("${ringle.calendar.past-days:90}") int pastDays) {
+        this.lessonRepository = lessonRepository;
+        this.userRepository = userRepository;
+        this.feedKey = new SecretKeySpec(feedSecret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        this.zone = ZoneId.of(zone);
+        this.pastDays = pastDays;
+    }
+
+    /**
+     * 조회 대상 피드 정보
+     *
+     * @param count 피드 범위 수업 수
+     * @param lastModified 피드 범위 수업의 마지막 수정 시각 (수업이 없으면 null)
+     */
+    public record CalendarFeed(Long userId, Role role, String name, LocalDateTime from,
+                               long count, LocalDateTime lastModified) {
+
+        /**
+         * 피드 ETag (조회 범위 시작일 + 수업 수 + 마지막 수정 시각)
+         * - 수정 시각은 커밋 전에 정해지므로 더 이른 시각의 수업이 늦게 커밋될 수 있어 수업 수를 함께 사용
+         * - 수정 시각은 초 단위로 자르지 않음 (Last-Modified는 같은 초 안의 변경을 구분하지 못하므로 사용하지 않음)
+         */
+        public String etag() {
+            String version = (lastModified == null) ? "0"
+                    : lastModified.toEpochSecond(ZoneOffset.UTC) + "." + lastModified.getNano();
+            return "\"" + from.toLocalDate() + "-" + count + "-" + version + "\"";
+        }
+    }
+
+    /**
+     * 사용자의 구독용 피드 경로 (context path 제외)
+     * - 피드 키가 없으면 처음 조회할 때 발급
+     */
+    @Transactional
+    public String getFeedPath(Long userId) {
+        User user = findUser(userId);
+        if (user.getCalendarFeedKey() == null) {
+            user.changeCalendarFeedKey(newFeedKey());
+        }
+        return feedPath(user);
+    }
+
+    /**
+     * 피드 키 재발급 → 새 피드 경로 (이전 URL은 무효)
+     */
+    @Transactional
+    public String rotateFeedPath(Long userId) {
+        User user = findUser(userId);
+        user.changeCalendarFeedKey(newFeedKey());
+        return feedPath(user);
+    }
+
+    /**
+     * 피드 토큰 검증 후 피드 정보 조회
+     * - 스트리밍 응답은 시작 후 오류 응답으로 전환할 수 없으므로 컨트롤러에서 먼저 호출
+     * - 토큰이 맞지 않거나 사용자가 없으면 존재 여부를 드러내지 않도록 동일하게 404
+     */
+    @Transactional(readOnly = true)
+    public CalendarFeed openFeed(Long userId, String token) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(ExceptionCode.CALENDAR_FEED_NOT_FOUND));
+
+        String feedKey = user.getCalendarFeedKey();
+        if (feedKey == null || token == null || !MessageDigest.isEqual(
+                sign(userId, feedKey).getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8))) {
+            throw new BusinessException(ExceptionCode.CALENDAR_FEED_NOT_FOUND);
+        }
+
+        LocalDateTime from = LocalDate.now(zone).minusDays(pastDays).atStartOfDay();
+        CalendarFeedVersion version = (user.getRole() == Role.TUTOR)
+                ? lessonRepository.findTutorCalendarVersion(userId, from)
+                : lessonRepository.findStudentCalendarVersion(userId, from);
+
+        return new CalendarFeed(userId, user.getRole(), user.getName(), from,
+                version.count(), version.lastModified());
+    }
+
+    /**
+     * 피드를 iCalendar 형식으로 스트리밍 작성
+     * - 읽기 전용 커서로 fetch size 단위로 읽고, 수업 한 건씩 바로 writer로 전달
+     * - 학생 피드의 제목은 튜터 이름, 튜터 피드의 제목은 학생 이름
+     */
+    @Transactional(readOnly = true)
+    public void writeFeed(CalendarFeed feed, Writer writer) {
+        boolean tutor = feed.role() == Role.TUTOR;
+        ICalendarWriter calendar = new ICalendarWriter(writer);
+
+        try (Stream<CalendarLessonRow> rows = tutor
+                ? lessonRepository.streamTutorCalendar(feed.userId(), feed.from())
+                : lessonRepository.streamStudentCalendar(feed.userId(), feed.from())) {
+            calendar.beginCalendar("Ringle - " + feed.name());
+
+            Iterator<CalendarLessonRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                CalendarLessonRow row = iterator.next();
+                calendar.writeEvent(
+                        "lesson-" + row.lessonId() + "@ringle",
+                        toInstant(row.startTime()),
+                        toInstant(row.endTime()),
+                        toInstant(row.updatedAt()),
+                        "Ringle 수업 - " + (tutor ? row.studentName() : row.tutorName()),
+                        toEventStatus(row.status())
+                );
+            }
+            calendar.endCalendar();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Instant toInstant(LocalDateTime time) {
+        return time.atZone(zone).toInstant();
+    }
+
+    private static String toEventStatus(LessonStatus status) {
+        return switch (status) {
+            case PENDING -> "TENTATIVE";
+            case CONFIRMED -> "CONFIRMED";
+            case CANCELED -> "CANCELLED";
+        };
+    }
+
+    private User findUser(Long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(ExceptionCode.USER_NOT_FOUND));
+    }
+
+    private String feedPath(User user) {
+        return String.format(FEED_PATH, user.getId(), sign(user.getId(), user.getCalendarFeedKey()));
+    }
+
+    private String newFeedKey() {
+        byte[] key = new byte[FEED_KEY_BYTES];
+        secureRandom.nextBytes(key);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key);
+    }
+
+    /**
+     * 사용자 ID + 사용자별 피드 키 HMAC-SHA256 서명 (URL-safe Base64)
+     */
+    private String sign(Long userId, String userFeedKey) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(feedKey);
+            byte[] signature = mac.doFinal((userId + ":" + userFeedKey).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+}
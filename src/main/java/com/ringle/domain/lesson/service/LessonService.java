@@ -2,24 +2,41 @@ package com.ringle.domain.lesson.service;
 
 import com.ringle.common.exception.BusinessException;
 import com.ringle.common.exception.ExceptionCode;
-import com.ringle.common.lock.RedisLockManager;
+import com.ringle.common.lane.SingleWriterLaneExecutor;
+import com.ringle.common.lock.LockManager;
 import com.ringle.domain.availability.entity.Availability;
+import com.ringle.domain.availability.event.AvailabilityChangedEvent;
+import com.ringle.domain.availability.index.AvailabilitySlotIndex;
 import com.ringle.domain.availability.repository.AvailabilityRepository;
+import com.ringle.domain.availability.util.SlotMaskUtils;
 import com.ringle.domain.lesson.dto.request.LessonRequestDto;
+import com.ringle.domain.lesson.dto.request.LessonSeriesRequestDto;
 import com.ringle.domain.lesson.dto.response.LessonInfoResponseDto;
+import com.ringle.domain.lesson.dto.response.LessonPageResponseDto;
+import com.ringle.domain.lesson.dto.response.LessonSeriesResponseDto;
+import com.ringle.domain.lesson.dto.response.OccurrenceResultDto;
 import com.ringle.domain.lesson.entity.Lesson;
+import com.ringle.domain.lesson.entity.enums.BookingMode;
 import com.ringle.domain.lesson.entity.enums.DurationType;
 import com.ringle.domain.lesson.entity.enums.LessonStatus;
+import com.ringle.domain.lesson.entity.enums.OccurrenceStatus;
+import com.ringle.domain.lesson.entity.enums.SeriesBookingMode;
 import com.ringle.domain.lesson.repository.LessonRepository;
+import com.ringle.domain.lesson.repository.projection.LessonRow;
 import com.ringle.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.*;
 
 /**
  * 수업 관련 비즈니스 로직
@@ -28,110 +45,443 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class LessonService {
 
+    // 대체 튜터 후보 최대 조회 수
+    private static final int ALTERNATIVE_CANDIDATE_LIMIT = 5;
+
+    // 반복 수업 최대 회차 (1년)
+    private static final int MAX_SERIES_OCCURRENCES = 52;
+
+    // 수업 목록 페이지 최대 크기
+    private static final int MAX_LESSON_PAGE_SIZE = 100;
+
     private final AvailabilityRepository availabilityRepository;
     private final LessonRepository lessonRepository;
-    private final RedisLockManager redisLockManager;
+    private final LockManager lockManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AvailabilitySlotIndex availabilitySlotIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final SingleWriterLaneExecutor laneExecutor;
+
+    // 수업 신청 동시성 제어 방식 (LOCK / OPTIMISTIC / LANE)
+    @Value("${ringle.booking.mode:LOCK}")
+    private BookingMode bookingMode;
+
+    // OPTIMISTIC 모드 충돌 시 최대 시도 횟수
+    @Value("${ringle.booking.max-attempts:3}")
+    private int maxAttempts;
 
     /**
      * 학생이 신청한 수업 전체 조회
      * - student 현재 로그인한 사용자 (학생)에 대해서
      * - LessonSummaryResponseDto 리스트 반환 (없을 경우 빈 리스트)
+     * - 튜터 정보는 JOIN으로 함께 조회 (수업마다 튜터 조회 쿼리가 발생하지 않음)
      */
     @Transactional(readOnly = true)
     public List<LessonInfoResponseDto> getLessonsByStudent(User student) {
         // 해당 학생이 신청한 수업을 시작 시간 기준으로 역순 정렬해서 조회
-        List<Lesson> lessons = lessonRepository.findByStudentIdOrderByStartTimeDesc(student.getId());
-
-        // 각 Lesson을 응답용 DTO로 변환
-        return lessons
+        return lessonRepository.findLessonRowsByStudentId(student.getId())
                 .stream()
-                .map(lesson -> LessonInfoResponseDto.builder()
-                        .lessonId(lesson.getId())
-                        .startTime(lesson.getStartTime())
-                        .endTime(lesson.getEndTime())
-                        .durationType(lesson.getDurationType())
-                        .status(lesson.getStatus())
-                        .tutorName(lesson.getTutor().getName())
-                        .tutorEmail(lesson.getTutor().getEmail())
-                        .build())
+                .map(this::toLessonInfo)
                 .toList();
     }
 
+    /**
+     * 학생이 신청한 수업 페이지 조회 (시간 역순, keyset 페이지네이션)
+     * - cursor가 없으면 첫 페이지, 있으면 커서(시작 시각, 수업 ID) 이후 수업
+     * - size + 1개를 조회해 다음 페이지 존재 여부 판단
+     * - 이력이 길어도 페이지마다 (student_id, start_time) 인덱스를 타는 쿼리 1번
+     */
+    @Transactional(readOnly = true)
+    public LessonPageResponseDto getLessonPage(User student, String cursor, int size) {
+        if (size < 1 || size > MAX_LESSON_PAGE_SIZE) {
+            throw new BusinessException(ExceptionCode.NOT_VALID_ERROR);
+        }
+
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<LessonRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = lessonRepository.findLessonPage(student.getId(), limit);
+        } else {
+            LessonCursor decoded = LessonCursor.decode(cursor);
+            rows = lessonRepository.findLessonPageAfter(student.getId(), decoded.startTime(), decoded.lessonId(), limit);
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<LessonRow> page = hasNext ? rows.subList(0, size) : rows;
+        LessonRow last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+        return LessonPageResponseDto.builder()
+                .lessons(page.stream().map(this::toLessonInfo).toList())
+                .nextCursor(hasNext ? new LessonCursor(last.startTime(), last.lessonId()).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private LessonInfoResponseDto toLessonInfo(LessonRow row) {
+        return LessonInfoResponseDto.builder()
+                .lessonId(row.lessonId())
+                .startTime(row.startTime())
+                .endTime(row.endTime())
+                .durationType(row.durationType())
+                .status(row.status())
+                .tutorName(row.tutorName())
+                .tutorEmail(row.tutorEmail())
+                .build();
+    }
+
+    /**
+     * 수업 목록 페이지 커서 (마지막 수업의 시작 시각, ID)
+     * - 클라이언트에는 Base64(URL-safe) 문자열로 전달
+     */
+    private record LessonCursor(LocalDateTime startTime, Long lessonId) {
+
+        String encode() {
+            String raw = startTime + "_" + lessonId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static LessonCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('_');
+                return new LessonCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                        Long.parseLong(raw.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new BusinessException(ExceptionCode.INVALID_CURSOR);
+            }
+        }
+    }
+
     /**
      * 수업 신청 서비스
-     * - Redis 기반 분산 락으로 동시성 문제 해결
+     * - LOCK 모드: 수업이 차지하는 슬롯별 락(MultiLock, ringle.lock.provider) 안에서 트랜잭션 실행 (커밋 후 락 해제)
+     * - OPTIMISTIC 모드: 락 없이 조건부 UPDATE로 슬롯 점유, 다른 요청과 충돌 시 재시도
+     * - LANE 모드: 요청한 튜터의 레인에서 순서대로 트랜잭션 실행 (외부 락 왕복 없음)
      * - 대체 튜터 매칭 로직 포함
+     * - 인메모리 인덱스 사용 시 예약 불가가 확실한 요청은 락 획득 전에 거절
      */
-    @Transactional
     public void bookLesson(LessonRequestDto request, User student) {
-        // Redis 분산 락 키: tutorId + startTime 조합
-        String lockKey = "lesson:" + request.getTutorId() + ":" + request.getStartTime();
-
-        redisLockManager.runWithLock(lockKey, 3, 5, () -> {
-            DurationType type = request.getDurationType();
-            LocalDateTime start = request.getStartTime();
-            LocalDateTime end = start.plusMinutes(type.getMinutes());
-
-            // 1. 지정한 튜터의 예약 가능 시간대 조회
-            List<Availability> slots = availabilityRepository.findAvailableSlots(
-                    request.getTutorId(), start, end
-            );
-
-            // 2. 수업 길이에 따라 슬롯 유효성 검사
-            boolean available = isValidSlot(slots, start, type);
-
-            // 3. 예약 불가능한 경우
-            if (!available) {
-                // 대체 튜터 허용 시
-                if (request.isAllowAlternativeTutor()) {
-                    // 다른 튜터 중 같은 시간대 예약 가능 슬롯 탐색
-                    List<Availability> alternatives = availabilityRepository.findAlternativeSlots(
-                            request.getTutorId(), start, end
-                    );
-
-                    // 60분 수업이라면 연속된 2개 슬롯 필수
-                    List<Availability> grouped = getValidAlternativeGroup(alternatives, type, start);
-
-                    if (!grouped.isEmpty()) {
-                        // 대체 튜터 수업 생성 + 예약 처리
-                        createLesson(student, grouped.get(0).getTutor(), start, end, type);
-                        grouped.forEach(a -> {
-                            a.setBooked(true);
-                            availabilityRepository.save(a);
-                        });
-                        availabilityRepository.flush();
-                        return null;
-                    }
+        // 입력 값 검증 (레인 선택 전, 비동기 신청 등 컨트롤러 검증을 거치지 않는 호출 포함)
+        if (request.getTutorId() == null || request.getStartTime() == null || request.getDurationType() == null) {
+            throw new BusinessException(ExceptionCode.NOT_VALID_ERROR);
+        }
+        if (!isBookableInIndex(request)) {
+            throw new BusinessException(ExceptionCode.NO_AVAILABLE_TUTOR);
+        }
+
+        List<String> lockKeys = getSlotLockKeys(request.getTutorId(), List.of(request.getStartTime()), request.getDurationType());
+        runBooking(request.getTutorId(), lockKeys, status -> {
+            reserveSlots(request, student);
+            return null;
+        });
+    }
+
+    /**
+     * 반복 수업 신청 서비스 (매주 같은 요일/시각)
+     * - 전체 회차의 슬롯을 한 번의 쿼리로 조회하고 한 트랜잭션에서 점유
+     * - ALL_OR_NOTHING: 한 회차라도 불가하면 아무것도 신청하지 않음 (전체 슬롯을 UPDATE 한 번으로 점유)
+     * - BEST_EFFORT: 가능한 회차만 신청 (열린 슬롯을 한 번에 잠가 조회한 뒤 가능한 회차의 슬롯을 UPDATE 한 번으로 점유)
+     * - 대체 튜터 매칭은 하지 않음 (같은 튜터와의 정기 수업)
+     *
+     * @return 회차별 신청 결과
+     */
+    public LessonSeriesResponseDto bookLessonSeries(LessonSeriesRequestDto request, User student) {
+        // 입력 값 검증
+        if (request.getTutorId() == null || request.getStartTime() == null || request.getDurationType() == null
+                || request.getMode() == null) {
+            throw new BusinessException(ExceptionCode.NOT_VALID_ERROR);
+        }
+        if (request.getOccurrences() < 1 || request.getOccurrences() > MAX_SERIES_OCCURRENCES) {
+            throw new BusinessException(ExceptionCode.INVALID_LESSON_SERIES);
+        }
+
+        List<LocalDateTime> starts = new ArrayList<>(request.getOccurrences());
+        for (int week = 0; week < request.getOccurrences(); week++) {
+            starts.add(request.getStartTime().plusWeeks(week));
+        }
+
+        List<String> lockKeys = getSlotLockKeys(request.getTutorId(), starts, request.getDurationType());
+        return runBooking(request.getTutorId(), lockKeys, status -> reserveSeries(request, starts, student));
+    }
+
+    /**
+     * 설정된 동시성 제어 방식으로 신청 트랜잭션 실행
+     * - LOCK: 슬롯별 락(MultiLock) 획득 후 트랜잭션 실행, 커밋 후 락 해제
+     * - OPTIMISTIC: 락 없이 실행, 슬롯 점유 충돌(BOOKING_CONFLICT) 시 최대 maxAttempts회까지 처음부터 다시 시도
+     *   (재시도 시 이미 점유된 슬롯은 조회되지 않으므로 대체 튜터 탐색 또는 NO_AVAILABLE_TUTOR로 빠르게 종료)
+     * - LANE: 튜터 레인에서 트랜잭션 실행 (커밋까지 같은 튜터의 다음 신청은 대기)
+     *   대체 튜터 슬롯은 다른 레인 소관이므로 조건부 UPDATE로 충돌을 판단
+     */
+    private <T> T runBooking(Long tutorId, List<String> lockKeys, TransactionCallback<T> work) {
+        if (bookingMode == BookingMode.LANE) {
+            return laneExecutor.execute(tutorId, () -> transactionTemplate.execute(work));
+        }
+        if (bookingMode != BookingMode.OPTIMISTIC) {
+            // 겹치는 슬롯이 있는 신청끼리만 대기
+            return lockManager.runWithLocks(lockKeys, 3, 5, () -> transactionTemplate.execute(work));
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(work);
+            } catch (BusinessException e) {
+                if (e.getCode() != ExceptionCode.BOOKING_CONFLICT || attempt >= maxAttempts) {
+                    throw e;
                 }
+            }
+        }
+    }
 
-                // 대체 튜터 불가 혹은 없음 → 예외
-                throw new BusinessException(ExceptionCode.NO_AVAILABLE_TUTOR);
+    /**
+     * 슬롯 단위 락 키 목록 (lesson:slot:{tutorId}:{slotStart})
+     * - 60분 수업은 시작 슬롯 + 30분 뒤 슬롯 두 개
+     */
+    private List<String> getSlotLockKeys(Long tutorId, List<LocalDateTime> starts, DurationType type) {
+        return getSlotStarts(starts, type).stream()
+                .map(slotStart -> "lesson:slot:" + tutorId + ":" + slotStart)
+                .toList();
+    }
+
+    /**
+     * 수업 시작 시각 목록 → 수업이 차지하는 30분 슬롯 시작 시각 목록
+     */
+    private List<LocalDateTime> getSlotStarts(List<LocalDateTime> starts, DurationType type) {
+        int slotCount = type.getMinutes() / SlotMaskUtils.SLOT_MINUTES;
+
+        List<LocalDateTime> slotStarts = new ArrayList<>(starts.size() * slotCount);
+        for (LocalDateTime start : starts) {
+            for (int i = 0; i < slotCount; i++) {
+                slotStarts.add(start.plusMinutes((long) i * SlotMaskUtils.SLOT_MINUTES));
+            }
+        }
+        return slotStarts;
+    }
+
+    /**
+     * 슬롯 점유 + 수업 생성 (트랜잭션 안에서 실행)
+     */
+    private void reserveSlots(LessonRequestDto request, User student) {
+        DurationType type = request.getDurationType();
+        LocalDateTime start = request.getStartTime();
+        LocalDateTime end = start.plusMinutes(type.getMinutes());
+
+        // 1. 지정한 튜터의 예약 가능 시간대 조회 (인덱스상 불가하면 조회 생략)
+        List<Availability> slots = findBookableSlots(request.getTutorId(), start, end, type);
+
+        // 2. 수업 길이에 따라 슬롯 유효성 검사
+        boolean available = !slots.isEmpty();
+
+        // 3. 예약 불가능한 경우
+        if (!available) {
+            // 대체 튜터 허용 시 연속 슬롯을 모두 가진 후보 튜터 중 먼저 점유에 성공한 튜터로 수업 생성
+            if (request.isAllowAlternativeTutor() && reserveAlternativeTutor(request, student, start, end, type)) {
+                return;
             }
 
-            // 4. 정상 예약 가능 → 수업 생성
-            createLesson(student, slots.get(0).getTutor(), start, end, type);
-
-            // 5. 예약된 시간대에 대해 booked 처리
-            slots.forEach(a -> {
-                a.setBooked(true);
-                availabilityRepository.save(a);
-            });
-
-            /***
-             *  @Transactional 사용으로
-             *  save()는 메모리에만 저장됨 (flush 전까지는 DB 반영 X)
-             *  다른 쓰레드가 Availability를 조회할 때 여전히 isBooked = false 로 보이는 현상이 발생
-             *  flush()를 통해 save한 내용을 즉시 DB에 반영
-             */
-            availabilityRepository.flush();
-            return null;
+            // 대체 튜터 불가 혹은 없음 → 예외
+            throw new BusinessException(ExceptionCode.NO_AVAILABLE_TUTOR);
+        }
+
+        // 4. 정상 예약 가능 → 슬롯 점유 + 수업 생성
+        claimSlots(slots);
+        createLesson(student, slots.get(0).getTutor(), start, type);
+    }
+
+    /**
+     * 조건부 UPDATE로 슬롯 점유 (is_booked = false 인 슬롯만 true로 변경)
+     * - 변경된 행 수가 슬롯 수보다 적으면 다른 요청이 먼저 점유한 것 → 예외 (트랜잭션 롤백으로 일부 점유도 취소)
+     * - 엔티티 save/flush 없이 한 번의 쿼리로 DB에 반영
+     */
+    private void claimSlots(List<Availability> slots) {
+        List<Long> ids = slots.stream().map(Availability::getId).toList();
+
+        int claimed = availabilityRepository.claimSlots(ids);
+        if (claimed != ids.size()) {
+            throw new BusinessException(ExceptionCode.BOOKING_CONFLICT);
+        }
+
+        slots.forEach(a -> eventPublisher.publishEvent(AvailabilityChangedEvent.booked(a)));
+    }
+
+    /**
+     * 반복 수업 슬롯 점유 + 수업 생성 (트랜잭션 안에서 실행)
+     */
+    private LessonSeriesResponseDto reserveSeries(LessonSeriesRequestDto request, List<LocalDateTime> starts, User student) {
+        DurationType type = request.getDurationType();
+
+        // 1. 전체 회차 슬롯을 한 번에 조회
+        Map<LocalDateTime, Availability> openSlots = new HashMap<>();
+        availabilityRepository.findUnbookedSlotsByStartTimes(request.getTutorId(), getSlotStarts(starts, type))
+                .forEach(a -> openSlots.putIfAbsent(a.getStartTime(), a));
+
+        // 2. 회차별로 필요한 슬롯이 모두 열려 있는지 확인
+        Map<LocalDateTime, List<Availability>> availableOccurrences = new LinkedHashMap<>();
+        for (LocalDateTime start : starts) {
+            List<Availability> slots = getSlotStarts(List.of(start), type).stream()
+                    .map(openSlots::get)
+                    .toList();
+            if (!slots.contains(null)) {
+                availableOccurrences.put(start, slots);
+            }
+        }
+
+        // 3. 슬롯 점유 + 수업 생성
+        Map<LocalDateTime, Lesson> lessons = new LinkedHashMap<>();
+        if (request.getMode() == SeriesBookingMode.ALL_OR_NOTHING) {
+            if (availableOccurrences.size() == starts.size()) {
+                claimSlots(availableOccurrences.values().stream().flatMap(List::stream).toList());
+                availableOccurrences.forEach((start, slots) -> lessons.put(start, buildLesson(student, slots.get(0).getTutor(), start, type)));
+            }
+        } else {
+            Map<LocalDateTime, List<Availability>> claimable = lockClaimableOccurrences(availableOccurrences);
+            if (!claimable.isEmpty()) {
+                claimSlots(claimable.values().stream().flatMap(List::stream).toList());
+                claimable.forEach((start, slots) -> lessons.put(start, buildLesson(student, slots.get(0).getTutor(), start, type)));
+            }
+        }
+        lessonRepository.saveAll(lessons.values());
+
+        // 4. 회차별 결과
+        List<OccurrenceResultDto> results = starts.stream()
+                .map(start -> {
+                    Lesson lesson = lessons.get(start);
+                    OccurrenceStatus occurrenceStatus = (lesson != null) ? OccurrenceStatus.BOOKED
+                            : availableOccurrences.containsKey(start) ? OccurrenceStatus.NOT_BOOKED
+                            : OccurrenceStatus.UNAVAILABLE;
+                    return OccurrenceResultDto.builder()
+                            .startTime(start)
+                            .status(occurrenceStatus)
+                            .lessonId(lesson != null ? lesson.getId() : null)
+                            .build();
+                })
+                .toList();
+
+        return LessonSeriesResponseDto.builder()
+                .mode(request.getMode())
+                .requestedCount(starts.size())
+                .bookedCount(lessons.size())
+                .occurrences(results)
+                .build();
+    }
+
+    /**
+     * 회차 슬롯을 한 번의 쿼리로 잠그고, 슬롯이 모두 아직 열려 있는 회차만 반환
+     * - 조회 후 다른 요청이 점유한 슬롯은 제외되고, 반환된 슬롯은 커밋 전까지 다른 요청이 점유할 수 없음
+     */
+    private Map<LocalDateTime, List<Availability>> lockClaimableOccurrences(Map<LocalDateTime, List<Availability>> occurrences) {
+        if (occurrences.isEmpty()) return Map.of();
+
+        List<Long> ids = occurrences.values().stream().flatMap(List::stream).map(Availability::getId).toList();
+        Set<Long> lockedIds = new HashSet<>();
+        availabilityRepository.findUnbookedSlotsForUpdate(ids).forEach(a -> lockedIds.add(a.getId()));
+
+        Map<LocalDateTime, List<Availability>> claimable = new LinkedHashMap<>();
+        occurrences.forEach((start, slots) -> {
+            if (slots.stream().allMatch(a -> lockedIds.contains(a.getId()))) {
+                claimable.put(start, slots);
+            }
         });
+        return claimable;
+    }
+
+    /**
+     * 대체 튜터 매칭
+     * - 수업 시간대의 슬롯을 모두 보유한 튜터만 DB에서 집계 (최대 ALTERNATIVE_CANDIDATE_LIMIT명)
+     * - 후보 순서대로 슬롯 점유 시도, 다른 요청이 먼저 점유했으면 다음 후보로
+     *
+     * @return 대체 튜터로 수업 생성 여부
+     */
+    private boolean reserveAlternativeTutor(LessonRequestDto request, User student,
+                                            LocalDateTime start, LocalDateTime end, DurationType type) {
+        long slotCount = type.getMinutes() / SlotMaskUtils.SLOT_MINUTES;
+        List<Long> candidateIds = availabilityRepository.findAlternativeTutorIds(
+                request.getTutorId(), start, end, slotCount, PageRequest.of(0, ALTERNATIVE_CANDIDATE_LIMIT)
+        );
+
+        for (Long candidateId : candidateIds) {
+            List<Availability> candidateSlots = findBookableSlots(candidateId, start, end, type);
+            if (!candidateSlots.isEmpty() && tryClaimSlots(candidateSlots)) {
+                createLesson(student, candidateSlots.get(0).getTutor(), start, type);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 슬롯을 하나씩 조건부 UPDATE로 점유, 하나라도 실패하면 이미 점유한 슬롯을 되돌리고 false
+     * - 되돌리는 슬롯은 현재 트랜잭션이 점유한 행이므로 커밋 전까지 다른 요청이 변경할 수 없음
+     */
+    private boolean tryClaimSlots(List<Availability> slots) {
+        List<Long> claimedIds = new ArrayList<>(slots.size());
+        for (Availability slot : slots) {
+            if (availabilityRepository.claimSlots(List.of(slot.getId())) == 0) {
+                if (!claimedIds.isEmpty()) {
+                    availabilityRepository.releaseSlots(claimedIds);
+                }
+                return false;
+            }
+            claimedIds.add(slot.getId());
+        }
+
+        slots.forEach(a -> eventPublisher.publishEvent(AvailabilityChangedEvent.booked(a)));
+        return true;
+    }
+
+    /**
+     * 인메모리 인덱스 기반 사전 검사
+     * - 지정 튜터가 해당 시각에 수업 가능하거나, 대체 튜터 허용 시 다른 튜터라도 가능하면 true
+     * - 60분 수업은 같은 튜터의 연속된 두 슬롯 기준
+     * - 인덱스 미사용 시 항상 true (락 안에서 DB로 검사)
+     */
+    private boolean isBookableInIndex(LessonRequestDto request) {
+        if (!availabilitySlotIndex.isReady()) return true;
+
+        LocalDateTime start = request.getStartTime();
+        boolean sixty = request.getDurationType() == DurationType.SIXTY;
+
+        boolean tutorAvailable = isValidSlot(request.getTutorId(), start, request.getDurationType());
+        if (tutorAvailable || !request.isAllowAlternativeTutor()) {
+            return tutorAvailable;
+        }
+
+        LocalDate date = start.toLocalDate();
+        long startableMask = sixty
+                ? availabilitySlotIndex.getSixtyMinuteMask(date)
+                : availabilitySlotIndex.getOpenMask(date);
+        return (startableMask & (1L << SlotMaskUtils.slotIndex(date, start))) != 0;
+    }
+
+    /**
+     * 튜터의 수업 시간대 슬롯 조회 (수업 길이만큼 모두 예약 가능할 때만 반환, 아니면 빈 목록)
+     * - 인덱스 사용 중이면 인덱스로 먼저 판단하여 불가한 튜터는 DB 조회 생략
+     * - 인덱스가 가능하다고 판단한 경우와 인덱스 미사용 시에는 DB 조회 결과로 다시 확인
+     *   (인덱스는 커밋 후 반영되어 잠시 뒤처질 수 있음, 최종 판단은 조건부 UPDATE)
+     */
+    private List<Availability> findBookableSlots(Long tutorId, LocalDateTime start, LocalDateTime end, DurationType type) {
+        if (availabilitySlotIndex.isReady() && !isValidSlot(tutorId, start, type)) {
+            return List.of();
+        }
+
+        List<Availability> slots = availabilityRepository.findAvailableSlots(tutorId, start, end);
+        return hasAllSlots(slots, start, type) ? slots : List.of();
+    }
+
+    /**
+     * 인메모리 인덱스 기준 예약 가능 여부 (인덱스 사용 중일 때만 호출)
+     * - 인덱스는 기본 비활성(ringle.availability.index.enabled=false)이며 단일 노드 배포용
+     * - 60분 수업은 같은 튜터의 연속된 두 슬롯 기준
+     */
+    private boolean isValidSlot(Long tutorId, LocalDateTime start, DurationType type) {
+        return type == DurationType.SIXTY
+                ? availabilitySlotIndex.isSixtyMinuteStart(tutorId, start)
+                : availabilitySlotIndex.isOpen(tutorId, start);
     }
 
     /**
-     * 해당 수업 길이(DurationType)에 따라 예약 가능한 시간대인지 확인
+     * 조회한 슬롯이 수업 길이(DurationType)만큼 모두 있는지 확인 (DB 기준)
      */
-    private boolean isValidSlot(List<Availability> slots, LocalDateTime start, DurationType type) {
+    private boolean hasAllSlots(List<Availability> slots, LocalDateTime start, DurationType type) {
         if (type == DurationType.THIRTY) {
             // 30분 수업이면 해당 시작 시간에 슬롯이 하나 있어야 함
             return slots.size() == 1 && slots.get(0).getStartTime().equals(start);
@@ -144,51 +494,23 @@ public class LessonService {
     }
 
     /**
-     * 대체 튜터 후보 중에서 유효한 연속 슬롯(30분x2) 조합 반환
+     * 수업 엔티티 생성 및 저장
      */
-    private List<Availability> getValidAlternativeGroup(List<Availability> list, DurationType type, LocalDateTime start) {
-        if (type == DurationType.THIRTY) {
-            // 30분 수업은 해당 시간 슬롯 하나만 있으면 됨
-            return list.stream()
-                    .filter(a -> a.getStartTime().equals(start))
-                    .findFirst()
-                    .map(List::of)
-                    .orElse(List.of());
-        } else {
-            // 60분 수업은 튜터별로 그룹핑하여 연속된 슬롯 2개가 있는 튜터를 찾음
-            return list.stream()
-                    .collect(Collectors.groupingBy(a -> a.getTutor().getId()))
-                    .values().stream()
-                    .filter(slots -> slots.size() >= 2)
-                    .map(slots -> {
-                        Map<LocalDateTime, Availability> slotMap = slots.stream()
-                                .collect(Collectors.toMap(Availability::getStartTime, a -> a));
-                        Availability first = slotMap.get(start);
-                        Availability second = slotMap.get(start.plusMinutes(30));
-                        if (first != null && second != null) {
-                            return List.of(first, second);
-                        }
-                        return null;
-                    })
-                    .filter(group -> group != null)
-                    .findFirst()
-                    .orElse(List.of());
-        }
+    private void createLesson(User student, User tutor, LocalDateTime start, DurationType type) {
+        lessonRepository.save(buildLesson(student, tutor, start, type));
     }
 
     /**
-     * 수업 엔티티 생성 및 저장
+     * 수업 엔티티 생성 (확정 상태)
      */
-    private void createLesson(User student, User tutor, LocalDateTime start, LocalDateTime end, DurationType type) {
-        Lesson lesson = Lesson.builder()
+    private Lesson buildLesson(User student, User tutor, LocalDateTime start, DurationType type) {
+        return Lesson.builder()
                 .student(student)
                 .tutor(tutor)
                 .startTime(start)
-                .endTime(end)
+                .endTime(start.plusMinutes(type.getMinutes()))
                 .durationType(type)
                 .status(LessonStatus.CONFIRMED)
                 .build();
-
-        lessonRepository.save(lesson);
     }
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.ringle.domain.lesson.service;
+
+import com.ringle.common.exception.BusinessException;
+import com.ringle.common.exception.ExceptionCode;
+import com.ringle.domain.lesson.dto.response.TutorLessonResponseDto;
+import com.ringle.domain.lesson.repository.LessonRepository;
+import com.ringle.domain.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 튜터 수업 일정 관련 비즈니스 로직
+ */
+@Service
+@RequiredArgsConstructor
+public class TutorLessonService {
+
+    // 최대 조회 기간 (일)
+    private static final int MAX_RANGE_DAYS = 31;
+
+    private final LessonRepository lessonRepository;
+
+    /**
+     * 튜터에게 신청된 수업 일정 조회
+     * - from ~ to (종료일 포함, 최대 31일), 시작 시간 오름차순
+     * - (tutor_id, start_time) 인덱스 범위 조회 1번, 학생 이름은 JOIN으로 함께 조회
+     */
+    @Transactional(readOnly = true)
+    public List<TutorLessonResponseDto> getLessonsByTutor(User tutor, LocalDate from, LocalDate to) {
+        // 기간 검증 (종료일 포함 최대 31일)
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new BusinessException(ExceptionCode.INVALID_DATE_RANGE);
+        }
+
+        return lessonRepository.findTutorLessonsBetween(tutor.getId(), from.atStartOfDay(), to.plusDays(1).atStartOfDay())
+                .stream()
+                .map(row -> TutorLessonResponseDto.builder()
+                        .lessonId(row.lessonId())
+                        .startTime(row.startTime())
+                        .endTime(row.endTime())
+                        .durationType(row.durationType())
+                        .status(row.status())
+                        .studentName(row.studentName())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,107 @@
+package com.ringle.domain.lesson.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * iCalendar(RFC 5545) 스트리밍 작성기
+ * - 일정을 한 건씩 바로 Writer로 내보내므로 전체 캘린더를 메모리에 만들지 않음
+ * - 줄바꿈은 CRLF, 75 octet을 넘는 줄은 공백으로 시작하는 다음 줄로 접음 (UTF-8 문자 경계 유지)
+ * - 시각은 UTC(…Z)로 기록하여 VTIMEZONE 정의 없이 사용
+ */
+public class ICalendarWriter {
+
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final DateTimeFormatter UTC_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    private final Writer writer;
+
+    public ICalendarWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * VCALENDAR 시작
+     */
+    public void beginCalendar(String name) throws IOException {
+        writeLine("BEGIN:VCALENDAR");
+        writeLine("VERSION:2.0");
+        writeLine("PRODID:-//Ringle//Lesson Calendar//KO");
+        writeLine("CALSCALE:GREGORIAN");
+        writeLine("METHOD:PUBLISH");
+        writeLine("X-WR-CALNAME:" + escape(name));
+    }
+
+    /**
+     * VEVENT 한 건 작성
+     *
+     * @param uid 일정 고유 ID (같은 수업은 항상 같은 값 → 캘린더 앱이 갱신으로 처리)
+     * @param status TENTATIVE / CONFIRMED / CANCELLED
+     */
+    public void writeEvent(String uid, Instant start, Instant end, Instant lastModified,
+                           String summary, String status) throws IOException {
+        writeLine("BEGIN:VEVENT");
+        writeLine("UID:" + escape(uid));
+        writeLine("DTSTAMP:" + UTC_FORMAT.format(lastModified));
+        writeLine("LAST-MODIFIED:" + UTC_FORMAT.format(lastModified));
+        writeLine("DTSTART:" + UTC_FORMAT.format(start));
+        writeLine("DTEND:" + UTC_FORMAT.format(end));
+        writeLine("SUMMARY:" + escape(summary));
+        writeLine("STATUS:" + status);
+        writeLine("END:VEVENT");
+    }
+
+    /**
+     * VCALENDAR 종료 후 flush
+     */
+    public void endCalendar() throws IOException {
+        writeLine("END:VCALENDAR");
+        writer.flush();
+    }
+
+    /**
+     * TEXT 값 이스케이프 (\ ; , 줄바꿈)
+     */
+    static String escape(String text) {
+        if (text == null) return "";
+        return text.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n")
+                .replace("\r", "\\n");
+    }
+
+    /**
+     * 한 줄 작성 (75 octet 단위로 접기)
+     */
+    private void writeLine(String line) throws IOException {
+        int octets = 0;
+        int i = 0;
+        while (i < line.length()) {
+            int codePoint = line.codePointAt(i);
+            int length = utf8Length(codePoint);
+
+            // 접힌 줄은 앞의 공백 1 octet 포함하여 75 octet 이하
+            if (octets + length > MAX_LINE_OCTETS) {
+                writer.write("\r\n ");
+                octets = 1;
+            }
+            writer.write(Character.toChars(codePoint));
+            octets += length;
+            i += Character.charCount(codePoint);
+        }
+        writer.write("\r\n");
+    }
+
+    private static int utf8Length(int codePoint) {
+        if (codePoint < 0x80) return 1;
+        if (codePoint < 0x800) return 2;
+        if (codePoint < 0x10000) return 3;
+        return 4;
+    }
+}
@@ -34,12 +34,22 @@ public class User {
     @Enumerated(EnumType.STRING)
     private Role role; // STUDENT or TUTOR
 
+    @Column(name = "calendar_feed_key", length = 64)
+    private String calendarFeedKey; // 캘린더 피드 URL 서명용 사용자별 키 (재발급 시 이전 URL 무효화)
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    /**
+     * 캘린더 피드 키 변경 (발급 / 재발급)
+     */
+    public void changeCalendarFeedKey(String calendarFeedKey) {
+        this.calendarFeedKey = calendarFeedKey;
+    }
+
     /**
      * 엔티티 저장 시 호출되어 생성 시간 초기화
      */
@@ -36,7 +36,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     // 인증 없이 접근 가능한 URI 목록
     private static final List<String> EXCLUDE_PATHS = List.of(
-            "/swagger-ui", "/v3/api-docs", "/error", "/api/auth"
+            "/swagger-ui", "/v3/api-docs", "/error", "/api/auth", "/api/calendar/feeds"
     );
 
     /**
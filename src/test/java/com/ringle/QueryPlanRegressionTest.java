@@ -0,0 +1,220 @@
+package com.ringle;
+
+import com.ringle.domain.availability.entity.Availability;
+import com.ringle.domain.availability.repository.AvailabilityChangeRepository;
+import com.ringle.domain.availability.repository.AvailabilityRepository;
+import com.ringle.domain.lesson.entity.Lesson;
+import com.ringle.domain.lesson.entity.enums.DurationType;
+import com.ringle.domain.lesson.entity.enums.LessonStatus;
+import com.ringle.domain.lesson.repository.LessonRepository;
+import com.ringle.domain.user.entity.User;
+import com.ringle.domain.user.entity.enums.Role;
+import com.ringle.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 조회 쿼리 실행 계획 회귀 테스트 (H2 MySQL 모드)
+ * - Repository 메서드를 실제로 호출해 Hibernate가 만든 SQL을 수집하고, EXPLAIN 결과에
+ *   availabilities / lessons 테이블 전체 스캔(tableScan)이 있으면 실패
+ * - 스키마는 엔티티의 @Table(indexes / uniqueConstraints) 선언으로 생성되므로 init.sql과 함께 유지해야 함
+ * - users 테이블은 데이터가 적어 전체 스캔을 허용 (PK 조인 또는 역할 조건)
+ */
+@DataJpaTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.ringle.QueryPlanRegressionTest$SqlCaptor")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class QueryPlanRegressionTest {
+
+    private static final List<String> FULL_SCAN_MARKERS = List.of("AVAILABILITIES.TABLESCAN", "LESSONS.TABLESCAN", "AVAILABILITY_CHANGES.TABLESCAN");
+
+    @Autowired
+    private AvailabilityRepository availabilityRepository;
+
+    @Autowired
+    private LessonRepository lessonRepository;
+
+    @Autowired
+    private AvailabilityChangeRepository availabilityChangeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User tutor;
+    private User student;
+    private LocalDateTime start;
+
+    @BeforeEach
+    void setUp() {
+        tutor = userRepository.save(User.builder().name("Tutor").email("plan-tutor@ringle.com").password("pw").role(Role.TUTOR).build());
+        student = userRepository.save(User.builder().name("Student").email("plan-student@ringle.com").password("pw").role(Role.STUDENT).build());
+        start = LocalDateTime.of(2030, 1, 1, 10, 0);
+
+        for (int i = 0; i < 20; i++) {
+            LocalDateTime slot = start.plusMinutes(30L * i);
+            availabilityRepository.save(Availability.builder()
+                    .tutor(tutor).startTime(slot).endTime(slot.plusMinutes(30)).isBooked(false).build());
+        }
+        lessonRepository.save(Lesson.builder()
+                .student(student).tutor(tutor).startTime(start).endTime(start.plusMinutes(30))
+                .durationType(DurationType.THIRTY).status(LessonStatus.CONFIRMED).build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * [학생 조회 쿼리]
+     * - 기간별 예약 가능 슬롯 조회는 (start_time, is_booked) 인덱스를 사용해야 함
+     */
+    @Test
+    void 기간별_슬롯조회_인덱스사용() {
+        LocalDateTime end = start.plusDays(1);
+
+        assertNoFullScan(() -> availabilityRepository.findUnbookedStartTimes(start, end));
+        assertNoFullScan(() -> availabilityRepository.findUnbookedStartTimesInWindow(start, end, 600, 720));
+        assertNoFullScan(() -> availabilityRepository.findUnbookedTutorSlots(start, end));
+        assertNoFullScan(() -> availabilityRepository.findUnbookedTutorSlotsInWindow(start, end, 600, 720));
+        assertNoFullScan(() -> availabilityRepository.findOpenSlotsFrom(start));
+        assertNoFullScan(() -> availabilityRepository.findOpenSlotsBetween(start, end));
+        assertNoFullScan(() -> {
+            try (var rows = availabilityRepository.streamOpenSlotsBetween(start, end)) {
+                rows.forEach(row -> { });
+            }
+        });
+    }
+
+    /**
+     * [튜터/수업 신청 쿼리]
+     * - 튜터별 조회는 (tutor_id, start_time) 유니크 인덱스, 대체 튜터 검색은 시간 조건 인덱스를 사용해야 함
+     */
+    @Test
+    void 튜터별_슬롯조회_인덱스사용() {
+        LocalDateTime end = start.plusMinutes(60);
+
+        assertNoFullScan(() -> availabilityRepository.findByTutorIdOrderByStartTimeAsc(tutor.getId()));
+        assertNoFullScan(() -> availabilityRepository.existsByTutorIdAndStartTime(tutor.getId(), start));
+        assertNoFullScan(() -> availabilityRepository.findByTutorIdAndStartTimeIn(tutor.getId(), List.of(start, end)));
+        assertNoFullScan(() -> availabilityRepository.findAvailableSlots(tutor.getId(), start, end));
+        assertNoFullScan(() -> availabilityRepository.findUnbookedSlotsByStartTimes(tutor.getId(), List.of(start, end)));
+        assertNoFullScan(() -> availabilityRepository.findAlternativeTutorIds(0L, start, end, 2L, PageRequest.of(0, 5)));
+    }
+
+    /**
+     * [수업 목록 쿼리]
+     * - 학생별 수업 목록은 (student_id, start_time), 튜터별 수업 일정은 (tutor_id, start_time) 인덱스를 사용해야 함
+     */
+    @Test
+    void 학생별_수업조회_인덱스사용() {
+        assertNoFullScan(() -> lessonRepository.findLessonRowsByStudentId(student.getId()));
+        assertNoFullScan(() -> lessonRepository.findLessonPage(student.getId(), PageRequest.of(0, 21)));
+        assertNoFullScan(() -> lessonRepository.findLessonPageAfter(student.getId(), start, Long.MAX_VALUE, PageRequest.of(0, 21)));
+        assertNoFullScan(() -> lessonRepository.findTutorLessonsBetween(tutor.getId(), start, start.plusDays(31)));
+    }
+
+    /**
+     * [캘린더 피드 쿼리]
+     * - 학생/튜터 피드 모두 (student_id | tutor_id, start_time) 인덱스 범위 조회여야 함
+     */
+    @Test
+    void 캘린더피드_인덱스사용() {
+        assertNoFullScan(() -> lessonRepository.findStudentCalendarVersion(student.getId(), start));
+        assertNoFullScan(() -> lessonRepository.findTutorCalendarVersion(tutor.getId(), start));
+        assertNoFullScan(() -> {
+            try (var rows = lessonRepository.streamStudentCalendar(student.getId(), start)) {
+                rows.forEach(row -> { });
+            }
+        });
+        assertNoFullScan(() -> {
+            try (var rows = lessonRepository.streamTutorCalendar(tutor.getId(), start)) {
+                rows.forEach(row -> { });
+            }
+        });
+    }
+
+    /**
+     * [변경 로그 쿼리]
+     * - 델타 조회는 PK 범위 조회여야 함
+     */
+    @Test
+    void 변경로그_PK범위조회() {
+        assertNoFullScan(() -> availabilityChangeRepository.findByIdGreaterThanOrderByIdAsc(0L, PageRequest.of(0, 101)));
+    }
+
+    /**
+     * 호출 중 실행된 SELECT / UPDATE / DELETE 각각의 EXPLAIN 결과에 전체 스캔이 없는지 확인
+     */
+    private void assertNoFullScan(Runnable call) {
+        SqlCaptor.STATEMENTS.clear();
+        call.run();
+
+        List<String> statements = SqlCaptor.STATEMENTS.stream()
+                .filter(sql -> sql.trim().toLowerCase(Locale.ROOT).matches("^(select|update|delete)\\b[\\s\\S]*"))
+                .toList();
+        assertThat(statements).as("수집된 SQL").isNotEmpty();
+
+        for (String sql : statements) {
+            String plan = explain(sql).toUpperCase(Locale.ROOT);
+            assertThat(FULL_SCAN_MARKERS)
+                    .as("전체 스캔 발생%nSQL: %s%nPLAN: %s", sql, plan)
+                    .noneMatch(plan::contains);
+        }
+    }
+
+    /**
+     * 파라미터는 실행 계획에 영향을 주지 않으므로 NULL로 바인딩
+     */
+    private String explain(String sql) {
+        return jdbcTemplate.execute((Connection connection) -> {
+            try (PreparedStatement ps = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (int i = 1; i <= ps.getParameterMetaData().getParameterCount(); i++) {
+                    ps.setObject(i, null);
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        plan.append(rs.getString(1)).append('\n');
+                    }
+                }
+                return plan.toString();
+            }
+        });
+    }
+
+    /**
+     * Hibernate가 실행하는 SQL 수집 (SQL은 변경하지 않음)
+     */
+    public static class SqlCaptor implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.ringle.common.datasource;
+
+import com.ringle.domain.user.entity.User;
+import com.ringle.domain.user.entity.enums.Role;
+import com.ringle.security.CustomUserDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ReplicationRoutingDataSource 라우팅 테스트
+ * - Primary / Replica를 서로 다른 H2 인메모리 DB로 구성하고 DB 이름으로 라우팅 대상 확인
+ */
+class ReplicationRoutingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = new DriverManagerDataSource("jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1", "sa", "");
+        DataSource replica = new DriverManagerDataSource("jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1", "sa", "");
+
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(Duration.ofMinutes(1));
+        routingDataSource.setTargetDataSources(Map.of(
+                DataSourceType.PRIMARY, primary,
+                DataSourceType.REPLICA, replica
+        ));
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    // 실제 커넥션의 JDBC URL (jdbc:h2:mem:primary / jdbc:h2:mem:replica)
+    private String currentDatabase() {
+        return jdbcTemplate.execute((ConnectionCallback<String>) con -> con.getMetaData().getURL());
+    }
+
+    private void login(Long userId) {
+        User user = User.builder().id(userId).email("user" + userId + "@example.com").role(Role.STUDENT).build();
+        CustomUserDetails userDetails = new CustomUserDetails(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    }
+
+    /**
+     * [라우팅 테스트]
+     * - 읽기 전용 트랜잭션은 Replica, 쓰기 트랜잭션은 Primary로 라우팅되어야 함
+     */
+    @Test
+    void readOnlyTransaction_Replica_쓰기트랜잭션_Primary() {
+        assertThat(readOnlyTransaction.execute(status -> currentDatabase())).contains("replica");
+        assertThat(writeTransaction.execute(status -> currentDatabase())).contains("primary");
+    }
+
+    /**
+     * [Read-your-writes 테스트]
+     * - 쓰기 트랜잭션을 연 사용자의 읽기 전용 트랜잭션은 Primary로,
+     * - 다른 사용자의 읽기 전용 트랜잭션은 그대로 Replica로 라우팅되어야 함
+     */
+    @Test
+    void readYourWrites_쓰기사용자만_Primary() {
+        // given: 사용자 1번이 쓰기 트랜잭션 실행
+        login(1L);
+        writeTransaction.execute(status -> currentDatabase());
+
+        // then: 사용자 1번의 읽기는 Primary
+        assertThat(readOnlyTransaction.execute(status -> currentDatabase())).contains("primary");
+
+        // then: 사용자 2번의 읽기는 Replica
+        login(2L);
+        assertThat(readOnlyTransaction.execute(status -> currentDatabase())).contains("replica");
+    }
+
+    /**
+     * [Read-your-writes 롤백 테스트]
+     * - 쓰기 트랜잭션이 롤백되면 최근 쓰기 사용자로 기록하지 않아 읽기는 Replica로 라우팅되어야 함
+     */
+    @Test
+    void readYourWrites_롤백된쓰기는_기록안함() {
+        // given: 사용자 1번의 쓰기 트랜잭션이 롤백됨
+        login(1L);
+        writeTransaction.execute(status -> {
+            currentDatabase();
+            status.setRollbackOnly();
+            return null;
+        });
+
+        // then: 사용자 1번의 읽기는 Replica
+        assertThat(readOnlyTransaction.execute(status -> currentDatabase())).contains("replica");
+    }
+}
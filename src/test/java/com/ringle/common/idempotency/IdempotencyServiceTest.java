@@ -0,0 +1,190 @@
+package com.ringle.common.idempotency;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ringle.common.exception.BusinessException;
+import com.ringle.common.exception.ExceptionCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * IdempotencyService 단위 테스트 (인메모리 저장소 사용)
+ * - 재시도 응답 재사용, 처리 중 대기, 실패 시 재처리, 다른 요청 거절, 처리 중 표시 만료 검증
+ */
+class IdempotencyServiceTest {
+
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(1000);
+        idempotencyService = new IdempotencyService(store, new ObjectMapper(), Duration.ofHours(1), Duration.ofSeconds(5), Duration.ofSeconds(5));
+    }
+
+    /**
+     * [재시도 케이스]
+     * - 같은 키로 다시 보낸 요청은 처리하지 않고 처음 응답을 그대로 반환해야 함
+     */
+    @Test
+    void 같은키_재시도는_저장된응답_반환() {
+        AtomicInteger calls = new AtomicInteger();
+
+        Object first = idempotencyService.execute("key-1", 1L, Map.of("tutorId", 1), () -> {
+            calls.incrementAndGet();
+            return Map.of("code", 200, "message", "ok");
+        });
+        Object retry = idempotencyService.execute("key-1", 1L, Map.of("tutorId", 1), () -> {
+            calls.incrementAndGet();
+            return Map.of("code", 200, "message", "ok");
+        });
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(first).isEqualTo(Map.of("code", 200, "message", "ok"));
+        assertThat(((JsonNode) retry).get("message").asText()).isEqualTo("ok");
+    }
+
+    /**
+     * [처리 중 대기 케이스]
+     * - 처음 요청이 처리 중일 때 들어온 재시도는 그 결과를 기다렸다가 반환해야 함
+     */
+    @Test
+    void 처리중인_요청의_재시도는_결과를_기다림() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<Object> first = CompletableFuture.supplyAsync(() ->
+                idempotencyService.execute("key-1", 1L, "request", () -> {
+                    calls.incrementAndGet();
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return "booked";
+                }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Object> retry = CompletableFuture.supplyAsync(() ->
+                idempotencyService.execute("key-1", 1L, "request", () -> {
+                    calls.incrementAndGet();
+                    return "booked-again";
+                }));
+        Thread.sleep(100);
+        assertThat(retry).isNotDone();
+
+        // when: 처음 요청 완료
+        release.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("booked");
+        assertThat(((JsonNode) retry.get(5, TimeUnit.SECONDS)).asText()).isEqualTo("booked");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    /**
+     * [실패 케이스]
+     * - 처리에 실패한 요청은 저장되지 않으므로 같은 키의 재시도가 다시 처리되어야 함
+     */
+    @Test
+    void 실패한_요청은_재시도시_다시_처리() {
+        assertThatThrownBy(() -> idempotencyService.execute("key-1", 1L, "request", () -> {
+            throw new BusinessException(ExceptionCode.BOOKING_CONFLICT);
+        })).isInstanceOf(BusinessException.class);
+
+        Object retry = idempotencyService.execute("key-1", 1L, "request", () -> "booked");
+
+        assertThat(retry).isEqualTo("booked");
+    }
+
+    /**
+     * [키 재사용 케이스]
+     * - 같은 키로 다른 내용의 요청을 보내면 IDEMPOTENCY_KEY_REUSED 예외가 발생해야 함
+     * - 다른 사용자의 같은 키는 별개로 처리되어야 함
+     */
+    @Test
+    void 같은키_다른요청은_거절() {
+        idempotencyService.execute("key-1", 1L, Map.of("tutorId", 1), () -> "booked");
+
+        assertThatThrownBy(() -> idempotencyService.execute("key-1", 1L, Map.of("tutorId", 2), () -> "booked"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("code").isEqualTo(ExceptionCode.IDEMPOTENCY_KEY_REUSED);
+
+        assertThat(idempotencyService.execute("key-1", 2L, Map.of("tutorId", 2), () -> "other-user"))
+                .isEqualTo("other-user");
+    }
+
+    /**
+     * [처리 중 표시 만료 케이스]
+     * - 처리 중 표시는 processing-lease 후 만료되어 같은 키의 요청이 다시 처리할 수 있어야 함
+     * - 완료된 응답은 processing-lease가 지나도 ttl 동안 유지되어야 함
+     */
+    @Test
+    void 처리중_표시는_임대시간후_만료() throws Exception {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(1000);
+
+        // given: 선점 후 완료하지 못한 키, 완료된 키
+        assertThat(store.claim("1:lost", "owner-1", "fp", Duration.ofMillis(100)).state()).isEqualTo(IdempotencyStore.State.ACQUIRED);
+        store.claim("1:done", "owner-1", "fp", Duration.ofMillis(100));
+        store.complete("1:done", "owner-1", "fp", "\"booked\"", Duration.ofHours(1));
+
+        // when
+        Thread.sleep(300);
+
+        // then
+        assertThat(store.claim("1:lost", "owner-2", "fp", Duration.ofMillis(100)).state()).isEqualTo(IdempotencyStore.State.ACQUIRED);
+        assertThat(store.claim("1:done", "owner-2", "fp", Duration.ofMillis(100)).state()).isEqualTo(IdempotencyStore.State.COMPLETED);
+    }
+
+    /**
+     * [임대 만료 후 재선점 케이스]
+     * - 임대 시간이 지나 재시도가 다시 선점한 키는 처음 요청이 완료/삭제해도 바뀌지 않아야 함
+     * - 재시도의 완료는 그대로 저장되어야 함
+     */
+    @Test
+    void 임대만료후_재선점된_키는_처음요청이_덮어쓰지_않음() throws Exception {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(1000);
+
+        // given: 처음 요청의 임대가 만료된 뒤 재시도가 다시 선점
+        store.claim("1:key", "first", "fp", Duration.ofMillis(100));
+        Thread.sleep(300);
+        assertThat(store.claim("1:key", "retry", "fp", Duration.ofSeconds(5)).state()).isEqualTo(IdempotencyStore.State.ACQUIRED);
+
+        // when: 늦게 끝난 처음 요청의 완료/삭제
+        boolean staleComplete = store.complete("1:key", "first", "fp", "\"first\"", Duration.ofHours(1));
+        boolean staleRelease = store.release("1:key", "first");
+
+        // then: 재시도의 처리 중 표시 유지
+        assertThat(staleComplete).isFalse();
+        assertThat(staleRelease).isFalse();
+        assertThat(store.claim("1:key", "other", "fp", Duration.ofSeconds(5)).state()).isEqualTo(IdempotencyStore.State.IN_PROGRESS);
+
+        // when & then: 재시도의 완료는 저장
+        assertThat(store.complete("1:key", "retry", "fp", "\"retry\"", Duration.ofHours(1))).isTrue();
+        IdempotencyStore.Claim claim = store.claim("1:key", "other", "fp", Duration.ofSeconds(5));
+        assertThat(claim.state()).isEqualTo(IdempotencyStore.State.COMPLETED);
+        assertThat(claim.response()).isEqualTo("\"retry\"");
+    }
+
+    /**
+     * [응답 저장 실패 케이스]
+     * - 응답을 직렬화하지 못해도 처리 중 표시를 지워 재시도가 바로 다시 처리할 수 있어야 함
+     */
+    @Test
+    void 응답저장_실패시_처리중_표시_삭제() {
+        assertThatThrownBy(() -> idempotencyService.execute("key-1", 1L, "request", Object::new))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(idempotencyService.execute("key-1", 1L, "request", () -> "booked")).isEqualTo("booked");
+    }
+}
@@ -0,0 +1,190 @@
+package com.ringle.common.lane;
+
+import com.ringle.common.exception.BusinessException;
+import com.ringle.common.exception.ExceptionCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * SingleWriterLaneExecutor 단위 테스트
+ * - 같은 키 작업의 직렬 실행, 큐 초과/대기 시간 초과 시 거절, 예외 및 SecurityContext 전달, 종료 시 취소 검증
+ */
+class SingleWriterLaneExecutorTest {
+
+    private SingleWriterLaneExecutor laneExecutor;
+
+    @AfterEach
+    void tearDown() {
+        laneExecutor.shutdown();
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * [직렬 실행 케이스]
+     * - 같은 키의 작업은 동시에 실행되지 않고 제출 순서대로 모두 실행되어야 함
+     */
+    @Test
+    void 같은키_작업은_직렬로_실행() throws Exception {
+        laneExecutor = new SingleWriterLaneExecutor(4, 100, Duration.ofSeconds(5));
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+
+        // when: 20개 스레드가 같은 키로 동시에 제출
+        try (ExecutorService pool = Executors.newFixedThreadPool(20)) {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                int n = i;
+                futures.add(CompletableFuture.runAsync(() -> laneExecutor.execute(1L, () -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    Thread.sleep(2);
+                    executed.add(n);
+                    running.decrementAndGet();
+                    return null;
+                }), pool));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+        }
+
+        // then
+        assertThat(maxRunning.get()).isEqualTo(1);
+        assertThat(executed).hasSize(20);
+    }
+
+    /**
+     * [큐 초과 케이스]
+     * - 레인 큐가 가득 차면 대기하지 않고 BOOKING_QUEUE_FULL 예외로 거절해야 함
+     */
+    @Test
+    void 큐가_가득차면_즉시_거절() throws Exception {
+        laneExecutor = new SingleWriterLaneExecutor(1, 1, Duration.ofSeconds(5));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // given: 첫 작업이 레인을 점유, 두 번째 작업이 큐를 채움
+        CompletableFuture<Object> first = CompletableFuture.supplyAsync(() -> laneExecutor.execute(1L, () -> {
+            started.countDown();
+            release.await();
+            return "first";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Object> second = CompletableFuture.supplyAsync(() -> laneExecutor.execute(1L, () -> "second"));
+        Thread.sleep(100);
+
+        // then: 세 번째 작업은 거절
+        assertThatThrownBy(() -> laneExecutor.execute(1L, () -> "third"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("code").isEqualTo(ExceptionCode.BOOKING_QUEUE_FULL);
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("second");
+    }
+
+    /**
+     * [예외 전달 케이스]
+     * - 작업에서 발생한 BusinessException은 감싸지 않고 그대로 호출자에게 전달되어야 함
+     */
+    @Test
+    void 작업_예외는_그대로_전달() {
+        laneExecutor = new SingleWriterLaneExecutor(2, 10, Duration.ofSeconds(5));
+
+        assertThatThrownBy(() -> laneExecutor.execute(1L, () -> {
+            throw new BusinessException(ExceptionCode.BOOKING_CONFLICT);
+        }))
+                .isInstanceOf(BusinessException.class)
+                .extracting("code").isEqualTo(ExceptionCode.BOOKING_CONFLICT);
+    }
+
+    /**
+     * [대기 시간 초과 케이스]
+     * - wait-timeout 동안 실행이 시작되지 않은 작업은 취소되고 BOOKING_QUEUE_FULL 예외로 거절되어야 함
+     * - 취소된 작업은 앞 작업이 끝난 뒤에도 실행되지 않아야 함
+     */
+    @Test
+    void 대기시간_초과시_취소후_거절() throws Exception {
+        laneExecutor = new SingleWriterLaneExecutor(1, 10, Duration.ofMillis(100));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean secondExecuted = new AtomicBoolean();
+
+        // given: 첫 작업이 레인을 점유 (대기 시간보다 오래 실행)
+        CompletableFuture<Object> first = CompletableFuture.supplyAsync(() -> laneExecutor.execute(1L, () -> {
+            started.countDown();
+            release.await();
+            return "first";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // then: 두 번째 작업은 대기 시간 초과로 거절
+        assertThatThrownBy(() -> laneExecutor.execute(1L, () -> secondExecuted.getAndSet(true)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("code").isEqualTo(ExceptionCode.BOOKING_QUEUE_FULL);
+
+        // then: 실행 중이던 첫 작업은 대기 시간을 넘겨도 결과를 돌려받음, 취소된 작업은 실행되지 않음
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(laneExecutor.execute(1L, () -> "third")).isEqualTo("third");
+        assertThat(secondExecuted).isFalse();
+    }
+
+    /**
+     * [SecurityContext 전달 케이스]
+     * - 레인 스레드에서도 호출 스레드의 인증 정보를 사용할 수 있어야 함
+     */
+    @Test
+    void 호출스레드_인증정보_전달() {
+        laneExecutor = new SingleWriterLaneExecutor(2, 10, Duration.ofSeconds(5));
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("student", null));
+
+        String name = laneExecutor.execute(1L, () -> SecurityContextHolder.getContext().getAuthentication().getName());
+
+        assertThat(name).isEqualTo("student");
+    }
+
+    /**
+     * [종료 케이스]
+     * - 종료 시 큐에 남은 작업은 취소되어 대기 중인 호출자가 바로 반환되어야 함
+     */
+    @Test
+    void 종료시_대기작업_취소() throws Exception {
+        laneExecutor = new SingleWriterLaneExecutor(1, 10, Duration.ofSeconds(30));
+        CountDownLatch started = new CountDownLatch(1);
+
+        // given: 첫 작업이 레인을 점유, 두 번째 작업은 큐에서 대기
+        CompletableFuture.supplyAsync(() -> laneExecutor.execute(1L, () -> {
+            started.countDown();
+            new CountDownLatch(1).await();
+            return "first";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Object> second = CompletableFuture.supplyAsync(() -> laneExecutor.execute(1L, () -> "second"));
+        Thread.sleep(100);
+
+        // when
+        laneExecutor.shutdown();
+
+        // then: 두 번째 작업은 대기 시간(30초)을 기다리지 않고 취소 예외로 반환
+        assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasRootCauseInstanceOf(CancellationException.class);
+    }
+}
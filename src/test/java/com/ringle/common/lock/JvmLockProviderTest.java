@@ -0,0 +1,61 @@
+package com.ringle.common.lock;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * JvmLockProvider 단위 테스트
+ * - 같은 키 대기 / 획득 실패 / 해제 여부 검증
+ */
+class JvmLockProviderTest {
+
+    private final JvmLockProvider lockProvider = new JvmLockProvider(16);
+
+    /**
+     * [정상 케이스]
+     * - 작업 결과를 반환하고, 작업 후 락이 해제되어 같은 키로 다시 획득할 수 있어야 함
+     */
+    @Test
+    void runWithLocks_작업후_해제() {
+        TreeSet<String> keys = new TreeSet<>(List.of("lesson:slot:1:A", "lesson:slot:1:B"));
+
+        assertThat(lockProvider.runWithLocks(keys, 1, 5, () -> "first")).isEqualTo("first");
+        assertThat(lockProvider.runWithLocks(keys, 1, 5, () -> "second")).isEqualTo("second");
+    }
+
+    /**
+     * [예외 케이스]
+     * - 다른 스레드가 같은 키를 잡고 있으면 waitTime 후 작업을 실행하지 않고 예외가 발생해야 함
+     */
+    @Test
+    void runWithLocks_다른스레드가_점유중이면_획득실패() throws Exception {
+        TreeSet<String> keys = new TreeSet<>(List.of("lesson:slot:1:A"));
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Object> holder = CompletableFuture.supplyAsync(() -> lockProvider.runWithLocks(keys, 1, 5, () -> {
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "held";
+        }));
+        assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        assertThatThrownBy(() -> lockProvider.runWithLocks(keys, 0, 5, () -> fail("작업이 실행되면 안 됨")))
+                .isInstanceOf(RuntimeException.class);
+
+        release.countDown();
+        assertThat(holder.get(5, TimeUnit.SECONDS)).isEqualTo("held");
+    }
+}
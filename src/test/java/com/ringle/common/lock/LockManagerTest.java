@@ -0,0 +1,111 @@
+package com.ringle.common.lock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.SortedSet;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * LockManager 단위 테스트
+ * - LockProvider에 정렬/중복 제거된 키를 넘기는지 검증
+ * - 대기/보유 시간, 획득 실패, lease 만료 지표 기록 검증
+ */
+class LockManagerTest {
+
+    private LockManager lockManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @Mock
+    private LockProvider lockProvider;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        lockManager = new LockManager(lockProvider, meterRegistry);
+
+        // 기본: 락 획득 후 작업 실행
+        when(lockProvider.runWithLocks(any(), anyInt(), anyInt(), any())).thenAnswer(invocation -> {
+            LockProvider.LockExecutor<?> executor = invocation.getArgument(3);
+            return executor.execute();
+        });
+    }
+
+    /**
+     * [정상 케이스]
+     * - 역순 + 중복 키를 넘겨도 정렬/중복 제거된 키로 LockProvider를 호출해야 함
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void runWithLocks_키를_정렬하여_위임() {
+        // when
+        Object result = lockManager.runWithLocks(
+                List.of("lesson:slot:1:B", "lesson:slot:1:A", "lesson:slot:1:B"), 3, 5, () -> "done");
+
+        // then
+        ArgumentCaptor<SortedSet<String>> keys = ArgumentCaptor.forClass(SortedSet.class);
+        verify(lockProvider).runWithLocks(keys.capture(), eq(3), eq(5), any());
+        assertThat(keys.getValue()).containsExactly("lesson:slot:1:A", "lesson:slot:1:B");
+        assertThat(result).isEqualTo("done");
+    }
+
+    /**
+     * [지표 케이스]
+     * - 락을 획득하면 키 접두사 태그로 대기 시간(acquired)과 보유 시간이 기록되어야 함
+     */
+    @Test
+    void runWithLocks_대기_보유시간_기록() {
+        lockManager.runWithLock("lesson:slot:1:A", 3, 5, () -> "done");
+
+        assertThat(meterRegistry.get("lock.wait").tag("prefix", "lesson").tag("outcome", "acquired").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("lock.hold").tag("prefix", "lesson").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("lock.lease.expired").counter()).isNull();
+    }
+
+    /**
+     * [지표 케이스]
+     * - 획득 실패 시 timeout 대기 시간과 실패 횟수가 기록되고, 예외는 그대로 전달되어야 함
+     */
+    @Test
+    void runWithLocks_획득실패_기록() {
+        when(lockProvider.runWithLocks(any(), anyInt(), anyInt(), any())).thenThrow(new LockAcquisitionException());
+
+        assertThatThrownBy(() -> lockManager.runWithLock("lesson:slot:1:A", 3, 5, () -> "done"))
+                .isInstanceOf(LockAcquisitionException.class);
+
+        assertThat(meterRegistry.get("lock.timeouts").tag("prefix", "lesson").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("lock.wait").tag("outcome", "timeout").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("lock.hold").timer()).isNull();
+    }
+
+    /**
+     * [지표 케이스]
+     * - lease가 있는 구현체에서 작업이 leaseTime보다 오래 걸리면 lease 만료 횟수가 기록되어야 함
+     */
+    @Test
+    void runWithLocks_lease만료_기록() {
+        when(lockProvider.hasLease()).thenReturn(true);
+
+        // leaseTime 0초 → 작업 시간이 0보다 크면 만료
+        lockManager.runWithLock("lesson:slot:1:A", 3, 0, () -> {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "done";
+        });
+
+        assertThat(meterRegistry.get("lock.lease.expired").tag("prefix", "lesson").counter().count()).isEqualTo(1);
+    }
+}
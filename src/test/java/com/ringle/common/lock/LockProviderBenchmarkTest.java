@@ -0,0 +1,141 @@
+package com.ringle.common.lock;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * LockProvider 경합 벤치마크 (기본 test 태스크에서 제외, ./gradlew benchmark 로 실행)
+ * - 여러 스레드가 적은 수의 인기 슬롯에 동시에 신청하는 상황을 흉내내어 처리량과 지연 시간 분포(p50/p99/max) 비교
+ * - 임계 구역에서 슬롯을 한 번만 점유할 수 있는지(중복 예약 없음)도 함께 검증
+ * - Redisson: -Dbenchmark.redis=redis://localhost:6379
+ * - MySQL: -Dbenchmark.mysql.url=jdbc:mysql://localhost:3306/ringle -Dbenchmark.mysql.username=... -Dbenchmark.mysql.password=...
+ * - 결과는 로거로 남기며 benchmark 태스크의 테스트 리포트(build/reports/tests/benchmark)에서 확인
+ */
+@Tag("benchmark")
+class LockProviderBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LockProviderBenchmarkTest.class);
+
+    private static final int THREADS = 64;
+    private static final int REQUESTS = 5_000;
+    private static final int HOT_SLOTS = 32;       // 경합 대상 슬롯 수
+    private static final long CRITICAL_SECTION_MICROS = 500; // 신청 트랜잭션 대용
+
+    @Test
+    void jvm() throws Exception {
+        report("jvm", run(new JvmLockProvider(1024)));
+    }
+
+    @Test
+    void redisson() throws Exception {
+        String address = System.getProperty("benchmark.redis");
+        assumeTrue(address != null, "benchmark.redis 미설정");
+
+        Config config = new Config();
+        config.useSingleServer().setAddress(address);
+        RedissonClient client = Redisson.create(config);
+        try {
+            report("redisson", run(new RedissonLockProvider(client)));
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    void mysql() throws Exception {
+        String url = System.getProperty("benchmark.mysql.url");
+        assumeTrue(url != null, "benchmark.mysql.url 미설정");
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url,
+                System.getProperty("benchmark.mysql.username", "ringle"),
+                System.getProperty("benchmark.mysql.password", "1234"));
+        report("mysql", run(new MySqlLockProvider(dataSource)));
+    }
+
+    private long[] run(LockProvider lockProvider) throws Exception {
+        Map<String, AtomicInteger> holders = new ConcurrentHashMap<>();
+        long[] latencies = new long[REQUESTS];
+        AtomicInteger failures = new AtomicInteger();
+        AtomicInteger doubleBookings = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(REQUESTS);
+
+        long started = System.nanoTime();
+        try (ExecutorService pool = Executors.newFixedThreadPool(THREADS)) {
+            for (int i = 0; i < REQUESTS; i++) {
+                int n = i;
+                pool.execute(() -> {
+                    // 60분 수업: 연속된 두 슬롯
+                    int slot = ThreadLocalRandom.current().nextInt(HOT_SLOTS);
+                    TreeSet<String> keys = new TreeSet<>(List.of("lesson:slot:1:" + slot, "lesson:slot:1:" + (slot + 1)));
+
+                    long begin = System.nanoTime();
+                    try {
+                        lockProvider.runWithLocks(keys, 10, 30, () -> {
+                            keys.forEach(key -> {
+                                if (holders.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet() != 1) {
+                                    doubleBookings.incrementAndGet();
+                                }
+                            });
+                            busyWait(CRITICAL_SECTION_MICROS);
+                            keys.forEach(key -> holders.get(key).decrementAndGet());
+                            return null;
+                        });
+                    } catch (RuntimeException e) {
+                        failures.incrementAndGet();
+                    } finally {
+                        latencies[n] = System.nanoTime() - begin;
+                        done.countDown();
+                    }
+                });
+            }
+            assertThat(done.await(5, TimeUnit.MINUTES)).isTrue();
+        }
+        long elapsed = System.nanoTime() - started;
+
+        assertThat(failures.get()).isZero();
+        assertThat(doubleBookings.get()).isZero();
+        log.info("elapsed={}ms, throughput={} req/s",
+                TimeUnit.NANOSECONDS.toMillis(elapsed), Math.round(REQUESTS / (elapsed / 1e9)));
+        return latencies;
+    }
+
+    private void report(String name, long[] latencies) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        List<String> columns = new ArrayList<>();
+        for (double p : new double[]{0.5, 0.9, 0.99}) {
+            columns.add(String.format("p%d=%.2fms", (int) (p * 100), sorted[(int) (p * (sorted.length - 1))] / 1e6));
+        }
+        columns.add(String.format("max=%.2fms", sorted[sorted.length - 1] / 1e6));
+        log.info("[{}] {}", name, String.join(", ", columns));
+    }
+
+    private static void busyWait(long micros) {
+        long end = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(micros);
+        while (System.nanoTime() < end) {
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.ringle.common.lock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.List;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * MySqlLockProvider 단위 테스트
+ * - 키 전체가 waitTime 하나를 나눠 쓰는지, DB 오류 시 락 획득 실패로 처리하고 해제하는지 검증
+ */
+class MySqlLockProviderTest {
+
+    private DataSource dataSource;
+    private Connection connection;
+    private PreparedStatement getLock;
+    private PreparedStatement releaseAll;
+    private ResultSet resultSet;
+    private MySqlLockProvider lockProvider;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = mock(DataSource.class);
+        connection = mock(Connection.class);
+        getLock = mock(PreparedStatement.class);
+        releaseAll = mock(PreparedStatement.class);
+        resultSet = mock(ResultSet.class);
+
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("SELECT GET_LOCK(?, ?)")).thenReturn(getLock);
+        when(connection.prepareStatement("SELECT RELEASE_ALL_LOCKS()")).thenReturn(releaseAll);
+        when(getLock.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+
+        lockProvider = new MySqlLockProvider(dataSource);
+    }
+
+    /**
+     * [정상 케이스]
+     * - 키마다 GET_LOCK으로 획득 후 작업을 실행하고, 작업 후 전체 해제 및 커넥션 반납
+     */
+    @Test
+    void runWithLocks_획득후_해제() throws SQLException {
+        when(resultSet.getInt(1)).thenReturn(1);
+
+        String result = lockProvider.runWithLocks(
+                new TreeSet<>(List.of("lesson:slot:1:A", "lesson:slot:1:B")), 3, 5, () -> "done");
+
+        assertThat(result).isEqualTo("done");
+        verify(getLock, times(2)).executeQuery();
+        verify(getLock, times(2)).setLong(2, 3L);
+        verify(releaseAll).execute();
+        verify(connection).close();
+    }
+
+    /**
+     * [대기 시간 공유 케이스]
+     * - 첫 키 획득에 waitTime을 모두 쓰면 다음 키는 GET_LOCK을 호출하지 않고 바로 실패해야 함
+     */
+    @Test
+    void runWithLocks_대기시간소진시_다음키_즉시실패() throws SQLException {
+        when(resultSet.getInt(1)).thenAnswer(invocation -> {
+            Thread.sleep(1100); // 첫 키 획득에 waitTime(1초) 초과 소요
+            return 1;
+        });
+
+        assertThatThrownBy(() -> lockProvider.runWithLocks(
+                new TreeSet<>(List.of("lesson:slot:1:A", "lesson:slot:1:B")), 1, 5, () -> fail("작업이 실행되면 안 됨")))
+                .isInstanceOf(LockAcquisitionException.class);
+
+        verify(getLock, times(1)).executeQuery();
+        verify(releaseAll).execute();
+    }
+
+    /**
+     * [예외 케이스]
+     * - GET_LOCK 실행 중 DB 오류는 LockAcquisitionException으로 전달하고, 커넥션은 해제 후 반납
+     */
+    @Test
+    void runWithLocks_DB오류시_획득실패() throws SQLException {
+        when(getLock.executeQuery()).thenThrow(new SQLException("connection lost"));
+
+        assertThatThrownBy(() -> lockProvider.runWithLocks(
+                new TreeSet<>(List.of("lesson:slot:1:A")), 3, 5, () -> fail("작업이 실행되면 안 됨")))
+                .isInstanceOf(LockAcquisitionException.class)
+                .hasCauseInstanceOf(SQLException.class);
+
+        verify(releaseAll).execute();
+        verify(connection).close();
+    }
+
+    /**
+     * [풀 고갈 케이스]
+     * - 락 전용 풀에서 커넥션을 얻지 못하면 작업을 실행하지 않고 LockAcquisitionException
+     */
+    @Test
+    void runWithLocks_락커넥션풀고갈시_획득실패() throws SQLException {
+        when(dataSource.getConnection()).thenThrow(new SQLTransientConnectionException("mysql-lock - Connection is not available"));
+
+        assertThatThrownBy(() -> lockProvider.runWithLocks(
+                new TreeSet<>(List.of("lesson:slot:1:A")), 3, 5, () -> fail("작업이 실행되면 안 됨")))
+                .isInstanceOf(LockAcquisitionException.class)
+                .hasCauseInstanceOf(SQLTransientConnectionException.class);
+
+        verify(getLock, never()).executeQuery();
+    }
+}
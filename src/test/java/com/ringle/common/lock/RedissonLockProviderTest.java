@@ -0,0 +1,120 @@
+package com.ringle.common.lock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * RedissonLockProvider 단위 테스트
+ * - MultiLock 획득 순서 및 해제 여부 검증
+ */
+class RedissonLockProviderTest {
+
+    @InjectMocks
+    private RedissonLockProvider lockProvider;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RLock lockA;
+
+    @Mock
+    private RLock lockB;
+
+    @Mock
+    private RLock multiLock;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(redissonClient.getLock("lesson:slot:1:A")).thenReturn(lockA);
+        when(redissonClient.getLock("lesson:slot:1:B")).thenReturn(lockB);
+        when(redissonClient.getMultiLock(any(RLock[].class))).thenReturn(multiLock);
+    }
+
+    /**
+     * [정상 케이스]
+     * - 전달받은 정렬 순서대로 MultiLock을 구성하고, 작업 후 해제해야 함
+     */
+    @Test
+    void runWithLocks_정렬된순서로_획득후_해제() throws InterruptedException {
+        when(multiLock.tryLock(3, 5, TimeUnit.SECONDS)).thenReturn(true);
+        when(lockA.isHeldByCurrentThread()).thenReturn(true);
+        when(lockB.isHeldByCurrentThread()).thenReturn(true);
+
+        // when
+        String result = lockProvider.runWithLocks(
+                new TreeSet<>(List.of("lesson:slot:1:B", "lesson:slot:1:A")), 3, 5, () -> "done");
+
+        // then
+        assertThat(result).isEqualTo("done");
+        verify(redissonClient).getMultiLock(lockA, lockB);
+        verify(lockA).unlock();
+        verify(lockB).unlock();
+    }
+
+    /**
+     * [lease 만료 케이스]
+     * - 작업 중 lease가 만료된 락은 해제하지 않고, 해제 직전에 만료되어도 작업 결과를 그대로 반환해야 함
+     */
+    @Test
+    void runWithLocks_lease만료_보유중인락만_해제() throws InterruptedException {
+        when(multiLock.tryLock(3, 5, TimeUnit.SECONDS)).thenReturn(true);
+        when(lockA.isHeldByCurrentThread()).thenReturn(false);
+        when(lockB.isHeldByCurrentThread()).thenReturn(true);
+        doThrow(new IllegalMonitorStateException()).when(lockB).unlock();
+
+        // when
+        String result = lockProvider.runWithLocks(
+                new TreeSet<>(List.of("lesson:slot:1:A", "lesson:slot:1:B")), 3, 5, () -> "done");
+
+        // then: 이미 만료된 락은 해제 시도하지 않음
+        assertThat(result).isEqualTo("done");
+        verify(lockA, never()).unlock();
+        verify(lockB).unlock();
+    }
+
+    /**
+     * [예외 케이스]
+     * - 전체 락을 획득하지 못하면 작업을 실행하지 않고 예외가 발생해야 함
+     */
+    @Test
+    void runWithLocks_획득실패_작업미실행() throws InterruptedException {
+        when(multiLock.tryLock(3, 5, TimeUnit.SECONDS)).thenReturn(false);
+
+        assertThatThrownBy(() -> lockProvider.runWithLocks(
+                new TreeSet<>(List.of("lesson:slot:1:A")), 3, 5, () -> fail("작업이 실행되면 안 됨")))
+                .isInstanceOf(RuntimeException.class);
+        verify(lockA, never()).unlock();
+    }
+
+    /**
+     * [인터럽트 케이스]
+     * - 락 대기 중 인터럽트되면 예외와 함께 스레드의 인터럽트 상태를 복구해야 함
+     */
+    @Test
+    void runWithLocks_인터럽트_상태복구() throws InterruptedException {
+        when(multiLock.tryLock(3, 5, TimeUnit.SECONDS)).thenThrow(new InterruptedException());
+
+        try {
+            assertThatThrownBy(() -> lockProvider.runWithLocks(
+                    new TreeSet<>(List.of("lesson:slot:1:A")), 3, 5, () -> fail("작업이 실행되면 안 됨")))
+                    .hasCauseInstanceOf(InterruptedException.class);
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted(); // 다른 테스트에 영향 없도록 초기화
+        }
+    }
+}
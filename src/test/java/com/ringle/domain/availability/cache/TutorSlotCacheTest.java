@@ -0,0 +1,73 @@
+package com.ringle.domain.availability.cache;
+
+import com.ringle.domain.availability.dto.response.TutorSlotDto;
+import com.ringle.domain.availability.entity.enums.AvailabilityChangeType;
+import com.ringle.domain.availability.event.AvailabilityChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TutorSlotCacheTest {
+
+    private TutorSlotCache tutorSlotCache;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger loadCount;
+
+    private LocalDate date;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tutorSlotCache = new TutorSlotCache(10, Duration.ofMinutes(1), meterRegistry);
+        loadCount = new AtomicInteger();
+        date = LocalDate.now().plusDays(1);
+    }
+
+    private List<TutorSlotDto> load(LocalDate target) {
+        loadCount.incrementAndGet();
+        return List.of(TutorSlotDto.builder().tutorId(1L).tutorName("Tutor").availableTimes(List.of("10:00")).build());
+    }
+
+    /**
+     * [캐시 적중 테스트]
+     * - 같은 날짜 재조회 시 loader가 다시 실행되지 않아야 함
+     */
+    @Test
+    void get_같은날짜_캐시적중() {
+        tutorSlotCache.get(date, this::load);
+        tutorSlotCache.get(date, this::load);
+
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(tutorSlotCache.stats().hitCount()).isEqualTo(1);
+        assertThat(tutorSlotCache.stats().missCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+    }
+
+    /**
+     * [무효화 테스트]
+     * - 해당 날짜의 슬롯 변경 이벤트 수신 시 해당 날짜만 무효화되어야 함
+     */
+    @Test
+    void onAvailabilityChanged_해당날짜만_무효화() {
+        LocalDate otherDate = date.plusDays(1);
+        tutorSlotCache.get(date, this::load);
+        tutorSlotCache.get(otherDate, this::load);
+
+        // when: date의 슬롯 예약
+        tutorSlotCache.onAvailabilityChanged(new AvailabilityChangedEvent(
+                AvailabilityChangeType.BOOKED, 1L, 1L, null, date.atTime(10, 0)));
+
+        tutorSlotCache.get(date, this::load);
+        tutorSlotCache.get(otherDate, this::load);
+
+        // then: date만 다시 적재
+        assertThat(loadCount.get()).isEqualTo(3);
+    }
+}
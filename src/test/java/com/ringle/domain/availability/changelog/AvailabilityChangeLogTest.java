@@ -0,0 +1,97 @@
+package com.ringle.domain.availability.changelog;
+
+import com.ringle.domain.availability.entity.enums.AvailabilityChangeType;
+import com.ringle.domain.availability.event.AvailabilityChangedEvent;
+import com.ringle.domain.availability.repository.AvailabilityJdbcRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AvailabilityChangeLogTest {
+
+    private AvailabilityJdbcRepository availabilityJdbcRepository;
+    private AvailabilityChangeLog availabilityChangeLog;
+
+    @BeforeEach
+    void setUp() {
+        availabilityJdbcRepository = mock(AvailabilityJdbcRepository.class);
+        availabilityChangeLog = new AvailabilityChangeLog(availabilityJdbcRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(availabilityChangeLog);
+    }
+
+    private AvailabilityChangedEvent event(AvailabilityChangeType type, long availabilityId) {
+        return new AvailabilityChangedEvent(type, availabilityId, 1L, null, LocalDateTime.now().plusDays(1));
+    }
+
+    /**
+     * [트랜잭션 안 기록]
+     * - 한 트랜잭션의 이벤트는 커밋 직전에 발행 순서대로 한 번에 기록되어야 함
+     */
+    @Test
+    void onAvailabilityChanged_커밋직전_일괄기록() {
+        TransactionSynchronizationManager.initSynchronization();
+        AvailabilityChangedEvent created = event(AvailabilityChangeType.CREATED, 1L);
+        AvailabilityChangedEvent booked = event(AvailabilityChangeType.BOOKED, 2L);
+
+        // when: 트랜잭션 안에서 이벤트 2건 발행
+        availabilityChangeLog.onAvailabilityChanged(created);
+        availabilityChangeLog.onAvailabilityChanged(booked);
+
+        // then: 커밋 전에는 기록하지 않음
+        verifyNoInteractions(availabilityJdbcRepository);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertThat(synchronizations).hasSize(1);
+
+        // when: 커밋 직전 + 완료
+        synchronizations.get(0).beforeCommit(false);
+        synchronizations.get(0).afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+
+        // then: 발행 순서대로 1회 기록, 트랜잭션 자원 해제
+        verify(availabilityJdbcRepository, times(1)).insertChanges(List.of(created, booked));
+        assertThat(TransactionSynchronizationManager.hasResource(availabilityChangeLog)).isFalse();
+    }
+
+    /**
+     * [롤백]
+     * - 롤백된 트랜잭션의 이벤트는 기록되지 않아야 함
+     */
+    @Test
+    void onAvailabilityChanged_롤백시_기록안함() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        availabilityChangeLog.onAvailabilityChanged(event(AvailabilityChangeType.DELETED, 1L));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verifyNoInteractions(availabilityJdbcRepository);
+        assertThat(TransactionSynchronizationManager.hasResource(availabilityChangeLog)).isFalse();
+    }
+
+    /**
+     * [트랜잭션 밖 기록]
+     * - 트랜잭션 없이 발행된 이벤트는 바로 기록되어야 함
+     */
+    @Test
+    void onAvailabilityChanged_트랜잭션없음_바로기록() {
+        AvailabilityChangedEvent deleted = event(AvailabilityChangeType.DELETED, 1L);
+
+        availabilityChangeLog.onAvailabilityChanged(deleted);
+
+        verify(availabilityJdbcRepository, times(1)).insertChanges(List.of(deleted));
+    }
+}
@@ -0,0 +1,145 @@
+package com.ringle.domain.availability.index;
+
+import com.ringle.domain.availability.entity.enums.AvailabilityChangeType;
+import com.ringle.domain.availability.event.AvailabilityChangedEvent;
+import com.ringle.domain.availability.repository.AvailabilityRepository;
+import com.ringle.domain.availability.repository.projection.OpenSlotRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AvailabilitySlotIndexTest {
+
+    private AvailabilityRepository availabilityRepository;
+    private AvailabilitySlotIndex availabilitySlotIndex;
+
+    private LocalDate date;
+
+    @BeforeEach
+    void setUp() {
+        availabilityRepository = mock(AvailabilityRepository.class);
+        availabilitySlotIndex = new AvailabilitySlotIndex(availabilityRepository, true);
+        date = LocalDate.now().plusDays(1); // 내일
+    }
+
+    /**
+     * [초기 적재 테스트]
+     * - 기동 시 DB의 예약 가능 슬롯이 튜터별 비트마스크로 적재되어야 함
+     */
+    @Test
+    void afterSingletonsInstantiated_적재_성공() {
+        // given: 튜터 1번 10:00, 10:30 / 튜터 2번 10:30
+        when(availabilityRepository.findOpenSlotsFrom(any())).thenReturn(List.of(
+                new OpenSlotRow(1L, "Tutor A", date.atTime(10, 0)),
+                new OpenSlotRow(1L, "Tutor A", date.atTime(10, 30)),
+                new OpenSlotRow(2L, "Tutor B", date.atTime(10, 30))
+        ));
+
+        // when
+        availabilitySlotIndex.afterSingletonsInstantiated();
+
+        // then
+        assertThat(availabilitySlotIndex.isReady()).isTrue();
+        assertThat(availabilitySlotIndex.getTutorMasks(date))
+                .containsEntry(1L, (1L << 20) | (1L << 21))
+                .containsEntry(2L, 1L << 21);
+        assertThat(availabilitySlotIndex.getOpenMask(date)).isEqualTo((1L << 20) | (1L << 21));
+        assertThat(availabilitySlotIndex.getTutorName(2L)).isEqualTo("Tutor B");
+    }
+
+    /**
+     * [이벤트 반영 테스트]
+     * - 등록 이벤트는 슬롯을 열고, 예약/삭제 이벤트는 슬롯을 닫아야 함
+     */
+    @Test
+    void onAvailabilityChanged_등록_예약_반영() {
+        // given
+        when(availabilityRepository.findOpenSlotsFrom(any())).thenReturn(List.of());
+        availabilitySlotIndex.afterSingletonsInstantiated();
+        LocalDateTime slot = date.atTime(9, 0);
+
+        // when: 등록
+        availabilitySlotIndex.onAvailabilityChanged(
+                new AvailabilityChangedEvent(AvailabilityChangeType.CREATED, 10L, 1L, "Tutor A", slot));
+
+        // then
+        assertThat(availabilitySlotIndex.getTutorMasks(date)).containsEntry(1L, 1L << 18);
+
+        // when: 예약
+        availabilitySlotIndex.onAvailabilityChanged(
+                new AvailabilityChangedEvent(AvailabilityChangeType.BOOKED, 10L, 1L, null, slot));
+
+        // then: 비어있는 튜터는 제거
+        assertThat(availabilitySlotIndex.getTutorMasks(date)).isEmpty();
+    }
+
+    /**
+     * [다음날 00:00 슬롯 테스트]
+     * - 다음날 00:00 슬롯은 전날 마스크의 bit 48로 조회되어야 함
+     */
+    @Test
+    void getTutorMasks_다음날자정슬롯_포함() {
+        // given
+        when(availabilityRepository.findOpenSlotsFrom(any())).thenReturn(List.of(
+                new OpenSlotRow(1L, "Tutor A", date.atTime(23, 30)),
+                new OpenSlotRow(1L, "Tutor A", date.plusDays(1).atStartOfDay())
+        ));
+
+        // when
+        availabilitySlotIndex.afterSingletonsInstantiated();
+
+        // then
+        assertThat(availabilitySlotIndex.getTutorMasks(date)).containsEntry(1L, (1L << 47) | (1L << 48));
+        assertThat(availabilitySlotIndex.isSixtyMinuteStart(1L, date.atTime(23, 30))).isTrue();
+    }
+
+    /**
+     * [60분 수업 시작 가능 슬롯 테스트]
+     * - 같은 튜터의 연속된 두 슬롯이 열린 경우만 시작 가능해야 하며
+     * - 슬롯 예약 시 즉시 반영되어야 함
+     */
+    @Test
+    void getSixtyMinuteMask_같은튜터_연속슬롯만() {
+        // given: 튜터 1번 10:00, 10:30 / 튜터 2번 11:00 / 튜터 3번 11:30
+        when(availabilityRepository.findOpenSlotsFrom(any())).thenReturn(List.of(
+                new OpenSlotRow(1L, "Tutor A", date.atTime(10, 0)),
+                new OpenSlotRow(1L, "Tutor A", date.atTime(10, 30)),
+                new OpenSlotRow(2L, "Tutor B", date.atTime(11, 0)),
+                new OpenSlotRow(3L, "Tutor C", date.atTime(11, 30))
+        ));
+        availabilitySlotIndex.afterSingletonsInstantiated();
+
+        // then: 튜터 1번 10:00만 가능 (11:00 + 11:30은 서로 다른 튜터)
+        assertThat(availabilitySlotIndex.getSixtyMinuteMask(date)).isEqualTo(1L << 20);
+        assertThat(availabilitySlotIndex.isSixtyMinuteStart(1L, date.atTime(10, 0))).isTrue();
+        assertThat(availabilitySlotIndex.isOpen(2L, date.atTime(11, 0))).isTrue();
+
+        // when: 튜터 1번 10:30 예약
+        availabilitySlotIndex.onAvailabilityChanged(
+                new AvailabilityChangedEvent(AvailabilityChangeType.BOOKED, 10L, 1L, null, date.atTime(10, 30)));
+
+        // then
+        assertThat(availabilitySlotIndex.getSixtyMinuteMask(date)).isZero();
+        assertThat(availabilitySlotIndex.isSixtyMinuteStart(1L, date.atTime(10, 0))).isFalse();
+    }
+
+    /**
+     * [비활성화 테스트]
+     * - 인덱스가 비활성화된 경우 적재하지 않고 조회 불가 상태여야 함
+     */
+    @Test
+    void disabled_적재안함() {
+        AvailabilitySlotIndex disabled = new AvailabilitySlotIndex(availabilityRepository, false);
+
+        disabled.afterSingletonsInstantiated();
+
+        assertThat(disabled.isReady()).isFalse();
+        verifyNoInteractions(availabilityRepository);
+    }
+}
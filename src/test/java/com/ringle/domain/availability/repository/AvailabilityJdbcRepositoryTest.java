@@ -0,0 +1,91 @@
+package com.ringle.domain.availability.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * AvailabilityJdbcRepository 슬롯 일괄 등록 테스트 (H2 MySQL 모드)
+ * - 중복 슬롯만 건너뛰고 실제로 등록된 슬롯만 반환하는지, 중복 외의 오류는 그대로 전달하는지 검증
+ */
+class AvailabilityJdbcRepositoryTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private AvailabilityJdbcRepository availabilityJdbcRepository;
+
+    private final LocalDateTime base = LocalDateTime.of(2030, 1, 10, 0, 0);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:availability-jdbc;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS availabilities");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS users");
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("INSERT INTO users (id) VALUES (1)");
+        jdbcTemplate.execute("CREATE TABLE availabilities (" +
+                "id BIGINT AUTO_INCREMENT PRIMARY KEY, tutor_id BIGINT, start_time DATETIME, end_time DATETIME, " +
+                "is_booked BOOLEAN, created_at DATETIME, " +
+                "CONSTRAINT fk_availabilities_tutor FOREIGN KEY (tutor_id) REFERENCES users(id), " +
+                "CONSTRAINT uk_availabilities_tutor_start UNIQUE (tutor_id, start_time))");
+
+        availabilityJdbcRepository = new AvailabilityJdbcRepository(jdbcTemplate);
+    }
+
+    /**
+     * [정상 케이스]
+     * - 중복이 없으면 묶음 단위(BATCH_SIZE)로 모두 등록하고 전부 반환
+     */
+    @Test
+    void insertSlots_중복없음_전체등록() {
+        List<LocalDateTime> starts = slots(0, 600); // 묶음 2개
+
+        List<LocalDateTime> inserted = availabilityJdbcRepository.insertSlots(1L, starts, base);
+
+        assertThat(inserted).isEqualTo(starts);
+        assertThat(countSlots()).isEqualTo(600);
+    }
+
+    /**
+     * [중복 케이스]
+     * - 이미 등록된 슬롯만 건너뛰고, 나머지는 등록 후 등록된 슬롯만 반환
+     */
+    @Test
+    void insertSlots_중복슬롯만_건너뜀() {
+        availabilityJdbcRepository.insertSlots(1L, List.of(base.plusMinutes(30)), base);
+
+        List<LocalDateTime> inserted = availabilityJdbcRepository.insertSlots(1L, slots(0, 3), base);
+
+        assertThat(inserted).containsExactly(base, base.plusMinutes(60));
+        assertThat(countSlots()).isEqualTo(3);
+    }
+
+    /**
+     * [예외 케이스]
+     * - 중복이 아닌 제약 위반(존재하지 않는 튜터)은 무시하지 않고 예외로 전달
+     */
+    @Test
+    void insertSlots_중복외_오류는_전달() {
+        assertThatThrownBy(() -> availabilityJdbcRepository.insertSlots(99L, slots(0, 2), base))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .isNotInstanceOf(DuplicateKeyException.class);
+        assertThat(countSlots()).isZero();
+    }
+
+    private List<LocalDateTime> slots(int from, int to) {
+        return IntStream.range(from, to).mapToObj(i -> base.plusMinutes(30L * i)).toList();
+    }
+
+    private int countSlots() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM availabilities", Integer.class);
+    }
+}
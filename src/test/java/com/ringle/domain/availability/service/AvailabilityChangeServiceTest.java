@@ -0,0 +1,148 @@
+package com.ringle.domain.availability.service;
+
+import com.ringle.common.exception.BusinessException;
+import com.ringle.common.exception.ExceptionCode;
+import com.ringle.domain.availability.dto.response.AvailabilityChangesResponseDto;
+import com.ringle.domain.availability.entity.AvailabilityChange;
+import com.ringle.domain.availability.entity.enums.AvailabilityChangeType;
+import com.ringle.domain.availability.repository.AvailabilityChangeRepository;
+import com.ringle.domain.availability.repository.AvailabilityJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AvailabilityChangeServiceTest {
+
+    // DB 현재 시각
+    private static final LocalDateTime NOW = LocalDateTime.of(2030, 1, 1, 12, 0);
+
+    private AvailabilityChangeRepository availabilityChangeRepository;
+    private AvailabilityJdbcRepository availabilityJdbcRepository;
+    private AvailabilityChangeService availabilityChangeService;
+
+    @BeforeEach
+    void setUp() {
+        availabilityChangeRepository = mock(AvailabilityChangeRepository.class);
+        availabilityJdbcRepository = mock(AvailabilityJdbcRepository.class);
+        when(availabilityJdbcRepository.currentTimestamp()).thenReturn(NOW);
+        availabilityChangeService = new AvailabilityChangeService(
+                availabilityChangeRepository, availabilityJdbcRepository, Duration.ofSeconds(30));
+    }
+
+    private AvailabilityChange change(long seq, LocalDateTime createdAt) {
+        return AvailabilityChange.builder()
+                .id(seq)
+                .type(AvailabilityChangeType.BOOKED)
+                .availabilityId(seq)
+                .tutorId(1L)
+                .startTime(NOW.plusDays(1))
+                .createdAt(createdAt)
+                .build();
+    }
+
+    /**
+     * [정상 케이스]
+     * - since 이후 변경을 limit건까지 반환하고, 더 있으면 hasMore = true
+     * - 빈 순번이 없으면 방금 기록된 변경도 바로 전달, nextSince는 마지막으로 전달한 순번
+     */
+    @Test
+    void getChanges_limit까지_반환() {
+        when(availabilityChangeRepository.findByIdGreaterThanOrderByIdAsc(10L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(change(11L, NOW), change(12L, NOW), change(13L, NOW)));
+
+        // when: limit 2로 조회 (1건 더 조회하여 다음 페이지 확인)
+        AvailabilityChangesResponseDto result = availabilityChangeService.getChanges(10L, 2);
+
+        // then
+        assertThat(result.getChanges()).extracting("seq").containsExactly(11L, 12L);
+        assertThat(result.getNextSince()).isEqualTo(12L);
+        assertThat(result.isHasMore()).isTrue();
+    }
+
+    /**
+     * [빈 순번]
+     * - 아직 커밋되지 않은 앞 순번(빈 순번)을 만나면 그 앞에서 멈춰야 함 (기록 후 경과 시간과 무관)
+     * - 빈 순번 뒤 변경이 gap-timeout보다 오래되었으면 롤백된 순번으로 보고 건너뜀
+     */
+    @Test
+    void getChanges_빈순번_앞에서_멈춤() {
+        LocalDateTime old = NOW.minusMinutes(1);
+        when(availabilityChangeRepository.findByIdGreaterThanOrderByIdAsc(eq(10L), any()))
+                .thenReturn(List.of(change(11L, old), change(13L, NOW.minusSeconds(10)), change(14L, old)));
+        when(availabilityChangeRepository.findByIdGreaterThanOrderByIdAsc(eq(20L), any()))
+                .thenReturn(List.of(change(22L, old), change(23L, old)));
+
+        // when & then: 12번이 비어 있으므로 11번까지만
+        AvailabilityChangesResponseDto result = availabilityChangeService.getChanges(10L, 100);
+        assertThat(result.getChanges()).extracting("seq").containsExactly(11L);
+        assertThat(result.getNextSince()).isEqualTo(11L);
+        assertThat(result.isHasMore()).isFalse();
+
+        // when & then: 21번 뒤 변경이 충분히 오래됨 → 21번은 롤백된 순번
+        AvailabilityChangesResponseDto skipped = availabilityChangeService.getChanges(20L, 100);
+        assertThat(skipped.getChanges()).extracting("seq").containsExactly(22L, 23L);
+        assertThat(skipped.getNextSince()).isEqualTo(23L);
+    }
+
+    /**
+     * [빈 순번 - 첫 순번]
+     * - since 바로 다음 순번이 비어 있으면 아무것도 전달하지 않고 nextSince = since
+     */
+    @Test
+    void getChanges_첫순번_비어있으면_보류() {
+        when(availabilityChangeRepository.findByIdGreaterThanOrderByIdAsc(eq(20L), any()))
+                .thenReturn(List.of(change(22L, NOW)));
+
+        AvailabilityChangesResponseDto empty = availabilityChangeService.getChanges(20L, 100);
+
+        assertThat(empty.getChanges()).isEmpty();
+        assertThat(empty.getNextSince()).isEqualTo(20L);
+    }
+
+    /**
+     * [동기화 시작점]
+     * - since 미지정 시 변경 없이, gap-timeout 이전 마지막 순번부터 빈 순번 없이 이어지는 마지막 순번 반환
+     * - 변경 로그가 비어 있으면 0
+     */
+    @Test
+    void getChanges_since없음_현재순번() {
+        when(availabilityChangeRepository.findFirstByCreatedAtBeforeOrderByIdDesc(NOW.minusSeconds(30)))
+                .thenReturn(Optional.of(change(42L, NOW.minusMinutes(1))))
+                .thenReturn(Optional.empty());
+        when(availabilityChangeRepository.findByIdGreaterThanOrderByIdAsc(eq(42L), any()))
+                .thenReturn(List.of(change(43L, NOW), change(45L, NOW)));
+        when(availabilityChangeRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any()))
+                .thenReturn(List.of());
+
+        AvailabilityChangesResponseDto result = availabilityChangeService.getChanges(null, 100);
+        assertThat(result.getChanges()).isEmpty();
+        assertThat(result.getNextSince()).isEqualTo(43L);
+
+        assertThat(availabilityChangeService.getChanges(null, 100).getNextSince()).isEqualTo(0L);
+    }
+
+    /**
+     * [예외 케이스]
+     * - 음수 순번이거나 limit이 1 ~ 500 범위를 벗어나면 NOT_VALID_ERROR
+     */
+    @Test
+    void getChanges_잘못된요청() {
+        assertThatThrownBy(() -> availabilityChangeService.getChanges(-1L, 100))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ExceptionCode.NOT_VALID_ERROR.getMessage());
+
+        assertThatThrownBy(() -> availabilityChangeService.getChanges(0L, 501))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ExceptionCode.NOT_VALID_ERROR.getMessage());
+
+        verifyNoInteractions(availabilityChangeRepository, availabilityJdbcRepository);
+    }
+}
@@ -2,8 +2,14 @@ package com.ringle.domain.availability.service;
 
 import com.ringle.common.exception.BusinessException;
 import com.ringle.common.exception.ExceptionCode;
+import com.ringle.domain.availability.cache.TutorSlotCache;
+import com.ringle.domain.availability.dto.response.DailyTimeSlotDto;
 import com.ringle.domain.availability.dto.response.TimeSlotDto;
+import com.ringle.domain.availability.dto.response.TutorSlotDto;
+import com.ringle.domain.availability.index.AvailabilitySlotIndex;
 import com.ringle.domain.availability.repository.AvailabilityRepository;
+import com.ringle.domain.availability.repository.projection.OpenSlotRow;
+import com.ringle.domain.availability.repository.projection.TutorSlotRow;
 import com.ringle.domain.lesson.entity.enums.DurationType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,7 +19,12 @@ import org.mockito.MockitoAnnotations;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -23,6 +34,12 @@ class StudentAvailabilityServiceTest {
     @Mock
     private AvailabilityRepository availabilityRepository; // 의존성 Mock 선언
 
+    @Mock
+    private AvailabilitySlotIndex availabilitySlotIndex; // 기본값: 인덱스 미사용 (isReady = false)
+
+    @Mock
+    private TutorSlotCache tutorSlotCache;
+
     @InjectMocks
     private StudentAvailabilityService studentAvailabilityService; // 테스트 대상 클래스에 Mock 주입
 
@@ -30,6 +47,12 @@ class StudentAvailabilityServiceTest {
     void setUp() {
         // Mockito 어노테이션 초기화
         MockitoAnnotations.openMocks(this);
+
+        // 캐시는 항상 미스로 동작하도록 loader를 바로 실행
+        when(tutorSlotCache.get(any(), any())).thenAnswer(invocation -> {
+            Function<LocalDate, List<TutorSlotDto>> loader = invocation.getArgument(1);
+            return loader.apply(invocation.getArgument(0));
+        });
     }
 
     /**
@@ -44,7 +67,7 @@ class StudentAvailabilityServiceTest {
         LocalDateTime slotTime = targetDate.atTime(10, 0); // 10:00 시간대
 
         // Mock 설정: 해당 시간대는 예약 가능 상태
-        when(availabilityRepository.existsByStartTimeAndIsBookedFalse(slotTime)).thenReturn(true);
+        when(availabilityRepository.findUnbookedStartTimes(any(), any())).thenReturn(List.of(slotTime));
 
         // when: 30분 수업 가능 시간 조회
         List<TimeSlotDto> result = studentAvailabilityService.getAvailableTimeSlots(targetDate, DurationType.THIRTY);
@@ -66,18 +89,62 @@ class StudentAvailabilityServiceTest {
         LocalDateTime slot1 = targetDate.atTime(10, 0);     // 10:00
         LocalDateTime slot2 = slot1.plusMinutes(30);        // 10:30
 
-        // Mock 설정: 두 슬롯 모두 예약 가능
-        when(availabilityRepository.existsByStartTimeAndIsBookedFalse(slot1)).thenReturn(true);
-        when(availabilityRepository.existsByStartTimeAndIsBookedFalse(slot2)).thenReturn(true);
+        // Mock 설정: 같은 튜터의 두 슬롯 모두 예약 가능
+        when(availabilityRepository.findUnbookedTutorSlots(any(), any()))
+                .thenReturn(List.of(new TutorSlotRow(1L, slot1), new TutorSlotRow(1L, slot2)));
 
         // when
         List<TimeSlotDto> result = studentAvailabilityService.getAvailableTimeSlots(targetDate, DurationType.SIXTY);
 
-        // then
-        assertThat(result).isNotEmpty();
+        // then: 10:00만 60분 수업 가능 (10:30은 다음 슬롯이 없음)
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getTime()).isEqualTo("10:00");
         assertThat(result.get(0).isAvailable()).isTrue();
     }
 
+    /**
+     * [정상 케이스]
+     * - 60분 수업 요청 시 연속되지 않은 슬롯만 존재하는 경우,
+     * - 수업 가능 시간대가 없어야 하며
+     * - 하루치 슬롯은 범위 쿼리 한 번으로 조회되어야 함
+     */
+    @Test
+    void getAvailableTimeSlots_sixtyMinutes_noConsecutiveSlots() {
+        LocalDate targetDate = LocalDate.now().plusDays(1); // 미래 날짜
+
+        // Mock 설정: 10:00, 11:00 슬롯만 존재 (연속 아님)
+        when(availabilityRepository.findUnbookedTutorSlots(any(), any()))
+                .thenReturn(List.of(new TutorSlotRow(1L, targetDate.atTime(10, 0)), new TutorSlotRow(1L, targetDate.atTime(11, 0))));
+
+        // when
+        List<TimeSlotDto> result = studentAvailabilityService.getAvailableTimeSlots(targetDate, DurationType.SIXTY);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(availabilityRepository, times(1))
+                .findUnbookedTutorSlots(targetDate.atStartOfDay(), targetDate.plusDays(1).atTime(0, 30));
+    }
+
+    /**
+     * [정상 케이스]
+     * - 60분 수업 요청 시 10:00과 10:30 슬롯이 서로 다른 튜터의 것인 경우,
+     * - 한 튜터가 연속으로 수업할 수 없으므로 수업 가능 시간대가 없어야 함
+     */
+    @Test
+    void getAvailableTimeSlots_sixtyMinutes_differentTutors() {
+        LocalDate targetDate = LocalDate.now().plusDays(1); // 미래 날짜
+
+        // Mock 설정: 튜터 1번 10:00, 튜터 2번 10:30
+        when(availabilityRepository.findUnbookedTutorSlots(any(), any()))
+                .thenReturn(List.of(new TutorSlotRow(1L, targetDate.atTime(10, 0)), new TutorSlotRow(2L, targetDate.atTime(10, 30))));
+
+        // when
+        List<TimeSlotDto> result = studentAvailabilityService.getAvailableTimeSlots(targetDate, DurationType.SIXTY);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
     /**
      * [예외 케이스]
      * - 날짜 또는 수업 길이(DurationType)가 null인 경우
@@ -148,7 +215,7 @@ class StudentAvailabilityServiceTest {
         LocalDate date = LocalDate.now().plusDays(1); // 미래 날짜
 
         // Mock 설정: 예약 가능한 튜터 없음
-        when(availabilityRepository.findUnbookedSlotsForToday(any(), any()))
+        when(availabilityRepository.findOpenSlotsBetween(any(), any()))
                 .thenReturn(List.of()); // 빈 리스트 반환
 
         // 예외 검증
@@ -156,4 +223,135 @@ class StudentAvailabilityServiceTest {
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining(ExceptionCode.TUTOR_AVAILABILITY_NOT_FOUND.getMessage());
     }
+
+    /**
+     * [정상 케이스]
+     * - 튜터 ID 순으로 정렬된 프로젝션 결과를 튜터별로 그룹핑
+     * - 가장 이른 수업 가능 시간 순으로 반환되어야 함
+     */
+    @Test
+    void getTutorAvailableSlotsByDate_groupsProjectionRows() {
+        LocalDate date = LocalDate.now().plusDays(1); // 미래 날짜
+
+        // Mock 설정: 튜터 1번은 10:00 / 10:30, 튜터 2번은 09:00 가능
+        when(availabilityRepository.findOpenSlotsBetween(any(), any())).thenReturn(List.of(
+                new OpenSlotRow(1L, "Tutor A", date.atTime(10, 0)),
+                new OpenSlotRow(1L, "Tutor A", date.atTime(10, 30)),
+                new OpenSlotRow(2L, "Tutor B", date.atTime(9, 0))
+        ));
+
+        // when
+        List<TutorSlotDto> result = studentAvailabilityService.getTutorAvailableSlotsByDate(date);
+
+        // then: 단일 쿼리 (00:00 ~ 다음날 00:00), 가장 이른 시간 순 정렬
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getTutorName()).isEqualTo("Tutor B");
+        assertThat(result.get(0).getAvailableTimes()).containsExactly("09:00");
+        assertThat(result.get(1).getTutorId()).isEqualTo(1L);
+        assertThat(result.get(1).getAvailableTimes()).containsExactly("10:00", "10:30");
+        verify(availabilityRepository, times(1)).findOpenSlotsBetween(date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * [스트리밍 케이스]
+     * - 튜터 ID 순으로 읽은 슬롯을 튜터가 바뀔 때마다 한 건씩 전달해야 함
+     */
+    @Test
+    void streamTutorAvailableSlotsByDate_emitsOnePerTutor() {
+        LocalDate date = LocalDate.now().plusDays(1); // 미래 날짜
+
+        // Mock 설정: 튜터 1번은 10:00 / 10:30, 튜터 2번은 09:00 가능
+        when(availabilityRepository.streamOpenSlotsBetween(any(), any())).thenReturn(Stream.of(
+                new OpenSlotRow(1L, "Tutor A", date.atTime(10, 0)),
+                new OpenSlotRow(1L, "Tutor A", date.atTime(10, 30)),
+                new OpenSlotRow(2L, "Tutor B", date.atTime(9, 0))
+        ));
+
+        // when
+        List<TutorSlotDto> emitted = new ArrayList<>();
+        studentAvailabilityService.streamTutorAvailableSlotsByDate(date, emitted::add);
+
+        // then: 튜터 ID 순으로 전달
+        assertThat(emitted).extracting(TutorSlotDto::getTutorId).containsExactly(1L, 2L);
+        assertThat(emitted.get(0).getAvailableTimes()).containsExactly("10:00", "10:30");
+        assertThat(emitted.get(1).getAvailableTimes()).containsExactly("09:00");
+    }
+
+    /**
+     * [인덱스 조회 케이스]
+     * - 인메모리 인덱스가 준비된 경우
+     * - DB 조회 없이 튜터별 수업 가능 시간이 반환되어야 함
+     */
+    @Test
+    void getTutorAvailableSlotsByDate_fromIndex_noRepositoryAccess() {
+        LocalDate date = LocalDate.now().plusDays(1); // 미래 날짜
+
+        // Mock 설정: 튜터 2번은 09:00, 튜터 1번은 10:00 / 10:30 가능
+        when(availabilitySlotIndex.isReady()).thenReturn(true);
+        when(availabilitySlotIndex.getTutorMasks(date)).thenReturn(Map.of(
+                1L, (1L << 20) | (1L << 21),
+                2L, 1L << 18
+        ));
+        when(availabilitySlotIndex.getTutorName(1L)).thenReturn("Tutor A");
+        when(availabilitySlotIndex.getTutorName(2L)).thenReturn("Tutor B");
+
+        // when
+        List<TutorSlotDto> result = studentAvailabilityService.getTutorAvailableSlotsByDate(date);
+
+        // then: 가장 이른 시간 순으로 정렬
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getTutorId()).isEqualTo(2L);
+        assertThat(result.get(0).getAvailableTimes()).containsExactly("09:00");
+        assertThat(result.get(1).getTutorName()).isEqualTo("Tutor A");
+        assertThat(result.get(1).getAvailableTimes()).containsExactly("10:00", "10:30");
+        verifyNoInteractions(availabilityRepository);
+    }
+
+    /**
+     * [기간 조회 케이스]
+     * - 기간 전체를 한 번의 쿼리로 조회하고 날짜별로 그룹핑해야 하며
+     * - 시간대(18:00 ~ 22:00)는 쿼리 조건으로 전달되고, 수업이 시간대 안에서 끝나야 함
+     */
+    @Test
+    void getAvailableTimeSlotsInRange_window_groupedPerDay() {
+        LocalDate from = LocalDate.now().plusDays(1);
+        LocalDate to = from.plusDays(1);
+
+        // Mock 설정: 첫날 18:00, 18:30 / 둘째날 21:30 (같은 튜터)
+        when(availabilityRepository.findUnbookedTutorSlotsInWindow(any(), any(), anyInt(), anyInt()))
+                .thenReturn(List.of(new TutorSlotRow(1L, from.atTime(18, 0)), new TutorSlotRow(1L, from.atTime(18, 30)),
+                        new TutorSlotRow(1L, to.atTime(21, 30))));
+
+        // when
+        List<DailyTimeSlotDto> result = studentAvailabilityService.getAvailableTimeSlotsInRange(
+                from, to, DurationType.SIXTY, LocalTime.of(18, 0), LocalTime.of(22, 0));
+
+        // then: 둘째날 21:30은 22:00 이후 슬롯이 필요하므로 제외
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getDate()).isEqualTo(from);
+        assertThat(result.get(0).getSlots()).extracting(TimeSlotDto::getTime).containsExactly("18:00");
+        assertThat(result.get(1).getSlots()).isEmpty();
+        verify(availabilityRepository, times(1)).findUnbookedTutorSlotsInWindow(
+                from.atStartOfDay(), to.plusDays(1).atTime(0, 30), 18 * 60, 21 * 60 + 30);
+    }
+
+    /**
+     * [예외 케이스]
+     * - 조회 기간이 31일을 초과하거나 시간대가 30분 단위가 아닌 경우
+     * - 예외(INVALID_DATE_RANGE, INVALID_TIME_WINDOW) 발생
+     */
+    @Test
+    void getAvailableTimeSlotsInRange_invalidRange_throwsException() {
+        LocalDate from = LocalDate.now().plusDays(1);
+
+        assertThatThrownBy(() -> studentAvailabilityService.getAvailableTimeSlotsInRange(
+                from, from.plusDays(31), DurationType.THIRTY, null, null))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ExceptionCode.INVALID_DATE_RANGE.getMessage());
+
+        assertThatThrownBy(() -> studentAvailabilityService.getAvailableTimeSlotsInRange(
+                from, from, DurationType.THIRTY, LocalTime.of(18, 15), null))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ExceptionCode.INVALID_TIME_WINDOW.getMessage());
+    }
 }
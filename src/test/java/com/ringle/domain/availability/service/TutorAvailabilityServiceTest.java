@@ -3,13 +3,18 @@ package com.ringle.domain.availability.service;
 import com.ringle.common.exception.BusinessException;
 import com.ringle.common.exception.ExceptionCode;
 import com.ringle.domain.availability.dto.request.AvailabilityRequestDto;
+import com.ringle.domain.availability.dto.request.BulkAvailabilityRequestDto;
 import com.ringle.domain.availability.dto.response.AvailabilityResponseDto;
+import com.ringle.domain.availability.dto.response.BulkAvailabilityResponseDto;
 import com.ringle.domain.availability.entity.Availability;
+import com.ringle.domain.availability.event.AvailabilityChangedEvent;
+import com.ringle.domain.availability.repository.AvailabilityJdbcRepository;
 import com.ringle.domain.availability.repository.AvailabilityRepository;
 import com.ringle.domain.lesson.entity.enums.DurationType;
 import com.ringle.domain.user.entity.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -21,6 +26,8 @@ import static org.mockito.Mockito.*;
 class TutorAvailabilityServiceTest {
 
     private AvailabilityRepository availabilityRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private AvailabilityJdbcRepository availabilityJdbcRepository;
     private TutorAvailabilityService tutorAvailabilityService;
 
     private User tutor;
@@ -29,8 +36,10 @@ class TutorAvailabilityServiceTest {
     void setUp() {
         // 가짜 repository 생성 (Mockito)
         availabilityRepository = mock(AvailabilityRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        availabilityJdbcRepository = mock(AvailabilityJdbcRepository.class);
         // 서비스 객체 생성
-        tutorAvailabilityService = new TutorAvailabilityService(availabilityRepository);
+        tutorAvailabilityService = new TutorAvailabilityService(availabilityRepository, eventPublisher, availabilityJdbcRepository);
 
         // 테스트용 tutor 객체 생성
         tutor = User.builder()
@@ -63,6 +72,8 @@ class TutorAvailabilityServiceTest {
         // then
         // 두 슬롯 저장되었는지 검증
         verify(availabilityRepository, times(2)).save(any(Availability.class));
+        // 슬롯별 등록 이벤트 발행 검증
+        verify(eventPublisher, times(2)).publishEvent(any(AvailabilityChangedEvent.class));
     }
 
     /**
@@ -123,6 +134,7 @@ class TutorAvailabilityServiceTest {
 
         // then
         verify(availabilityRepository).delete(availability); // 삭제 메서드가 호출되었는지 검증
+        verify(eventPublisher).publishEvent(any(AvailabilityChangedEvent.class)); // 삭제 이벤트 발행 검증
     }
 
     /**
@@ -199,5 +211,92 @@ class TutorAvailabilityServiceTest {
         assertThat(result).hasSize(1); // 1개 조회되었는지 확인
         assertThat(result.get(0).getId()).isEqualTo(a1.getId()); // ID 일치 여부 검증
     }
-}
 
+    /**
+     * [일괄 등록 테스트]
+     * - 두 구간(중복 슬롯 포함)을 30분 슬롯으로 나눠 사전 조회 없이 한 번에 INSERT 요청하고,
+     * - 실제로 INSERT된 슬롯만 등록 건수와 등록 이벤트에 반영해야 함 (이미 등록된 슬롯은 건너뜀)
+     */
+    @Test
+    void createAvailabilities_실제등록된슬롯만_반영() {
+        // given: 10:00~11:30, 11:00~12:00 → 10:00, 10:30, 11:00, 11:30 (4개), 10:00은 이미 등록됨
+        LocalDateTime base = LocalDateTime.now().plusDays(1).withHour(10).withMinute(0).withSecond(0).withNano(0);
+        BulkAvailabilityRequestDto request = bulkRequest(
+                range(base, base.plusMinutes(90)),
+                range(base.plusMinutes(60), base.plusMinutes(120)));
+
+        List<LocalDateTime> inserted = List.of(base.plusMinutes(30), base.plusMinutes(60), base.plusMinutes(90));
+        Availability created1 = Availability.builder().id(2L).tutor(tutor).startTime(base.plusMinutes(30)).build();
+        Availability created2 = Availability.builder().id(3L).tutor(tutor).startTime(base.plusMinutes(60)).build();
+        Availability created3 = Availability.builder().id(4L).tutor(tutor).startTime(base.plusMinutes(90)).build();
+
+        when(availabilityJdbcRepository.insertSlots(eq(1L), anyList(), any())).thenReturn(inserted);
+        when(availabilityRepository.findByTutorIdAndStartTimeIn(1L, inserted))
+                .thenReturn(List.of(created1, created2, created3));
+
+        // when
+        BulkAvailabilityResponseDto result = tutorAvailabilityService.createAvailabilities(request, tutor);
+
+        // then
+        assertThat(result.getRequestedCount()).isEqualTo(4);
+        assertThat(result.getCreatedCount()).isEqualTo(3);
+        assertThat(result.getSkippedCount()).isEqualTo(1);
+        verify(availabilityJdbcRepository).insertSlots(eq(1L),
+                eq(List.of(base, base.plusMinutes(30), base.plusMinutes(60), base.plusMinutes(90))), any());
+        verify(availabilityRepository, times(1)).findByTutorIdAndStartTimeIn(anyLong(), anyCollection());
+        verify(availabilityRepository, never()).existsByTutorIdAndStartTime(anyLong(), any());
+        verify(availabilityRepository, never()).save(any(Availability.class));
+        verify(eventPublisher, times(3)).publishEvent(any(AvailabilityChangedEvent.class));
+    }
+
+    /**
+     * [일괄 등록 중복 테스트]
+     * - 요청한 슬롯이 모두 이미 등록되어 있으면 조회/이벤트 없이 전부 건너뜀으로 응답
+     */
+    @Test
+    void createAvailabilities_모두중복이면_이벤트없음() {
+        LocalDateTime base = LocalDateTime.now().plusDays(1).withHour(10).withMinute(0).withSecond(0).withNano(0);
+        when(availabilityJdbcRepository.insertSlots(eq(1L), anyList(), any())).thenReturn(List.of());
+
+        BulkAvailabilityResponseDto result = tutorAvailabilityService.createAvailabilities(
+                bulkRequest(range(base, base.plusMinutes(60))), tutor);
+
+        assertThat(result.getCreatedCount()).isZero();
+        assertThat(result.getSkippedCount()).isEqualTo(2);
+        verifyNoInteractions(availabilityRepository, eventPublisher);
+    }
+
+    /**
+     * [일괄 등록 예외 테스트]
+     * - 30분 단위가 아니거나 시작 >= 종료인 구간은 INVALID_AVAILABILITY_RANGE 예외
+     */
+    @Test
+    void createAvailabilities_잘못된구간_예외() {
+        LocalDateTime base = LocalDateTime.now().plusDays(1).withHour(10).withMinute(0).withSecond(0).withNano(0);
+
+        assertThatThrownBy(() -> tutorAvailabilityService.createAvailabilities(
+                bulkRequest(range(base, base.plusMinutes(45))), tutor))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ExceptionCode.INVALID_AVAILABILITY_RANGE.getMessage());
+
+        assertThatThrownBy(() -> tutorAvailabilityService.createAvailabilities(
+                bulkRequest(range(base, base)), tutor))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ExceptionCode.INVALID_AVAILABILITY_RANGE.getMessage());
+
+        verifyNoInteractions(availabilityJdbcRepository);
+    }
+
+    private BulkAvailabilityRequestDto bulkRequest(BulkAvailabilityRequestDto.Range... ranges) {
+        BulkAvailabilityRequestDto request = new BulkAvailabilityRequestDto();
+        request.setRanges(List.of(ranges));
+        return request;
+    }
+
+    private BulkAvailabilityRequestDto.Range range(LocalDateTime start, LocalDateTime end) {
+        BulkAvailabilityRequestDto.Range range = new BulkAvailabilityRequestDto.Range();
+        range.setStartTime(start);
+        range.setEndTime(end);
+        return range;
+    }
+}
@@ -0,0 +1,190 @@
+package com.ringle.domain.availability.sse;
+
+import com.ringle.common.exception.BusinessException;
+import com.ringle.common.exception.ExceptionCode;
+import com.ringle.domain.availability.entity.enums.AvailabilityChangeType;
+import com.ringle.domain.availability.event.AvailabilityChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AvailabilitySlotBroadcasterTest {
+
+    private AvailabilitySlotBroadcaster broadcaster;
+
+    private LocalDate date;
+
+    @BeforeEach
+    void setUp() {
+        // heartbeat가 테스트 중 섞이지 않도록 충분히 길게 설정
+        broadcaster = new AvailabilitySlotBroadcaster(Duration.ofMinutes(30), Duration.ofDays(1), 2) {
+            @Override
+            SseEmitter newEmitter(long timeoutMillis) {
+                return new RecordingEmitter(timeoutMillis);
+            }
+        };
+        date = LocalDate.now().plusDays(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    private AvailabilityChangedEvent event(AvailabilityChangeType type, Long tutorId, LocalDateTime startTime) {
+        return new AvailabilityChangedEvent(type, 1L, tutorId, null, startTime);
+    }
+
+    /**
+     * [전달 대상]
+     * - 같은 날짜 구독자에게만, tutorId 지정 구독자에게는 해당 튜터 변경만 전달되어야 함
+     * - 이벤트 이름은 변경 유형에 따라 slot-added / slot-booked
+     */
+    @Test
+    void onAvailabilityChanged_날짜_튜터별_전달() throws Exception {
+        RecordingEmitter all = (RecordingEmitter) broadcaster.subscribe(date, null);
+        RecordingEmitter tutor2 = (RecordingEmitter) broadcaster.subscribe(date, 2L);
+
+        // when: 1번 튜터 등록, 2번 튜터 예약, 다른 날짜 예약
+        broadcaster.onAvailabilityChanged(event(AvailabilityChangeType.CREATED, 1L, date.atTime(10, 0)));
+        broadcaster.onAvailabilityChanged(event(AvailabilityChangeType.BOOKED, 2L, date.atTime(11, 0)));
+        broadcaster.onAvailabilityChanged(event(AvailabilityChangeType.BOOKED, 2L, date.plusDays(2).atTime(11, 0)));
+
+        // then: 구독 직후 주석 + 발생 순서대로 전달
+        assertThat(all.next()).contains(":subscribed");
+        assertThat(all.next()).contains("event:slot-added");
+        assertThat(all.next()).contains("event:slot-booked");
+
+        assertThat(tutor2.next()).contains(":subscribed");
+        assertThat(tutor2.next()).contains("event:slot-booked");
+
+        assertThat(all.sent.poll(200, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(tutor2.sent.poll(200, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    /**
+     * [자정 슬롯]
+     * - 다음날 00:00 슬롯 변경은 전날 구독자에게도 전달되어야 함 (23:30 시작 60분 수업)
+     */
+    @Test
+    void onAvailabilityChanged_자정슬롯_전날구독자전달() throws Exception {
+        RecordingEmitter emitter = (RecordingEmitter) broadcaster.subscribe(date, null);
+
+        broadcaster.onAvailabilityChanged(event(AvailabilityChangeType.DELETED, 1L, date.plusDays(1).atStartOfDay()));
+
+        assertThat(emitter.next()).contains(":subscribed");
+        assertThat(emitter.next()).contains("event:slot-removed");
+    }
+
+    /**
+     * [구독자 수 제한]
+     * - 최대 구독자 수를 넘으면 TOO_MANY_SUBSCRIBERS, 연결 종료 후에는 다시 구독 가능
+     */
+    @Test
+    void subscribe_최대구독자초과() {
+        broadcaster.subscribe(date, null);
+        RecordingEmitter second = (RecordingEmitter) broadcaster.subscribe(date.plusDays(1), null);
+
+        assertThatThrownBy(() -> broadcaster.subscribe(date, null))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ExceptionCode.TOO_MANY_SUBSCRIBERS.getMessage());
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(2);
+
+        // when: 연결 종료 (컨테이너의 완료 콜백)
+        second.completed();
+
+        // then
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(1);
+        assertThatCode(() -> broadcaster.subscribe(date, null)).doesNotThrowAnyException();
+    }
+
+    /**
+     * [연결 끊김]
+     * - 전송 중 IOException이 나면 구독만 해제하고 completeWithError를 호출하지 않아야 함
+     * - 이후 변경은 더 이상 전송하지 않음
+     */
+    @Test
+    void drain_연결끊김_구독해제() throws Exception {
+        RecordingEmitter emitter = (RecordingEmitter) broadcaster.subscribe(date, null);
+        assertThat(emitter.next()).contains(":subscribed");
+
+        // when: 클라이언트 연결 끊김 후 변경 발생
+        emitter.disconnected = true;
+        broadcaster.onAvailabilityChanged(event(AvailabilityChangeType.CREATED, 1L, date.atTime(10, 0)));
+
+        // then: 구독 해제, 오류 완료 처리 없음
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (broadcaster.getSubscriberCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(broadcaster.getSubscriberCount()).isZero();
+        assertThat(emitter.completedWithError).isFalse();
+
+        emitter.disconnected = false;
+        broadcaster.onAvailabilityChanged(event(AvailabilityChangeType.BOOKED, 1L, date.atTime(11, 0)));
+        assertThat(emitter.sent.poll(200, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    /**
+     * 전송 내용을 문자열로 기록하는 SseEmitter
+     * - 실제 응답 없이 완료 콜백만 직접 호출
+     */
+    static class RecordingEmitter extends SseEmitter {
+
+        final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+        volatile boolean disconnected;
+        volatile boolean completedWithError;
+        private Runnable completionCallback;
+
+        RecordingEmitter(long timeout) {
+            super(timeout);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (disconnected) {
+                throw new IOException("Broken pipe");
+            }
+            sent.add(builder.build().stream()
+                    .map(part -> String.valueOf(part.getData()))
+                    .collect(Collectors.joining()));
+        }
+
+        @Override
+        public synchronized void onCompletion(Runnable callback) {
+            this.completionCallback = callback;
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed();
+        }
+
+        @Override
+        public synchronized void completeWithError(Throwable ex) {
+            completedWithError = true;
+        }
+
+        void completed() {
+            completionCallback.run();
+        }
+
+        String next() throws InterruptedException {
+            String message = sent.poll(1, TimeUnit.SECONDS);
+            assertThat(message).as("전송된 메시지").isNotNull();
+            return message;
+        }
+    }
+}
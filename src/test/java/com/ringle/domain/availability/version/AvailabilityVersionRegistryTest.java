@@ -0,0 +1,61 @@
+package com.ringle.domain.availability.version;
+
+import com.ringle.domain.availability.entity.enums.AvailabilityChangeType;
+import com.ringle.domain.availability.event.AvailabilityChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AvailabilityVersionRegistryTest {
+
+    private AvailabilityVersionRegistry availabilityVersionRegistry;
+
+    private LocalDate date;
+
+    @BeforeEach
+    void setUp() {
+        // max-age 구간이 테스트 중 바뀌지 않도록 충분히 길게 설정
+        availabilityVersionRegistry = new AvailabilityVersionRegistry(Duration.ofDays(365));
+        date = LocalDate.now().plusDays(1);
+    }
+
+    private AvailabilityChangedEvent booked(LocalDateTime startTime) {
+        return new AvailabilityChangedEvent(AvailabilityChangeType.BOOKED, 1L, 1L, null, startTime);
+    }
+
+    /**
+     * [버전 증가 테스트]
+     * - 변경이 없으면 ETag가 유지되고, 해당 날짜 슬롯 변경 시에만 ETag가 바뀌어야 함
+     */
+    @Test
+    void onAvailabilityChanged_해당날짜_ETag변경() {
+        String before = availabilityVersionRegistry.etag(date);
+        String otherBefore = availabilityVersionRegistry.etag(date.plusDays(1));
+        assertThat(availabilityVersionRegistry.etag(date)).isEqualTo(before);
+
+        // when
+        availabilityVersionRegistry.onAvailabilityChanged(booked(date.atTime(10, 0)));
+
+        // then
+        assertThat(availabilityVersionRegistry.version(date)).isEqualTo(1L);
+        assertThat(availabilityVersionRegistry.etag(date)).isNotEqualTo(before);
+        assertThat(availabilityVersionRegistry.etag(date.plusDays(1))).isEqualTo(otherBefore);
+    }
+
+    /**
+     * [자정 슬롯 테스트]
+     * - 00:00 슬롯 변경 시 전날 버전도 증가해야 함 (23:30 시작 60분 수업)
+     */
+    @Test
+    void onAvailabilityChanged_자정슬롯_전날버전증가() {
+        availabilityVersionRegistry.onAvailabilityChanged(booked(date.plusDays(1).atStartOfDay()));
+
+        assertThat(availabilityVersionRegistry.version(date)).isEqualTo(1L);
+        assertThat(availabilityVersionRegistry.version(date.plusDays(1))).isEqualTo(1L);
+    }
+}
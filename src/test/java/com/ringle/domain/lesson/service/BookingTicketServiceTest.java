@@ -0,0 +1,158 @@
+package com.ringle.domain.lesson.service;
+
+import com.ringle.common.exception.BusinessException;
+import com.ringle.common.exception.ExceptionCode;
+import com.ringle.domain.lesson.dto.request.LessonRequestDto;
+import com.ringle.domain.lesson.dto.response.BookingTicketResponseDto;
+import com.ringle.domain.lesson.entity.enums.BookingTicketStatus;
+import com.ringle.domain.user.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * BookingTicketService 단위 테스트
+ * - 접수 후 워커 처리 결과, long polling, 대기열 초과, 본인 확인, 처리 중 접수 보관 검증
+ */
+class BookingTicketServiceTest {
+
+    private BookingTicketService bookingTicketService;
+
+    @Mock
+    private LessonService lessonService;
+
+    private final User student = User.builder().id(100L).build();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        // 워커 1개, 대기열 1개
+        bookingTicketService = new BookingTicketService(lessonService, 1, 1, Duration.ofMinutes(10), 100, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        bookingTicketService.shutdown();
+    }
+
+    /**
+     * [정상 케이스]
+     * - 접수 즉시 PENDING을 반환하고, 결과 조회 시 처리 완료를 기다려 BOOKED를 반환해야 함
+     */
+    @Test
+    void submit_후_long_polling으로_BOOKED_조회() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return null;
+        }).when(lessonService).bookLesson(any(), any());
+
+        // when
+        BookingTicketResponseDto ticket = bookingTicketService.submit(new LessonRequestDto(), student);
+
+        // then
+        assertThat(ticket.getStatus()).isEqualTo(BookingTicketStatus.PENDING);
+        var result = bookingTicketService.getTicket(ticket.getTicketId(), student, Duration.ofSeconds(5));
+        assertThat(result).isNotDone();
+
+        release.countDown();
+        assertThat(result.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(BookingTicketStatus.BOOKED);
+        verify(lessonService).bookLesson(any(), eq(student));
+    }
+
+    /**
+     * [실패 케이스]
+     * - 신청 중 BusinessException이 발생하면 FAILED와 오류 코드를 반환해야 함
+     */
+    @Test
+    void 신청실패시_FAILED와_오류코드() throws Exception {
+        doThrow(new BusinessException(ExceptionCode.NO_AVAILABLE_TUTOR)).when(lessonService).bookLesson(any(), any());
+
+        BookingTicketResponseDto ticket = bookingTicketService.submit(new LessonRequestDto(), student);
+        BookingTicketResponseDto result = bookingTicketService
+                .getTicket(ticket.getTicketId(), student, Duration.ofSeconds(5))
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(result.getStatus()).isEqualTo(BookingTicketStatus.FAILED);
+        assertThat(result.getErrorCode()).isEqualTo(ExceptionCode.NO_AVAILABLE_TUTOR.getCode());
+    }
+
+    /**
+     * [대기열 초과 케이스]
+     * - 워커와 대기열이 모두 차 있으면 BOOKING_QUEUE_FULL 예외가 발생해야 함
+     */
+    @Test
+    void 대기열이_가득차면_거절() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return null;
+        }).when(lessonService).bookLesson(any(), any());
+
+        bookingTicketService.submit(new LessonRequestDto(), student); // 워커 점유
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        bookingTicketService.submit(new LessonRequestDto(), student); // 대기열 점유
+
+        assertThatThrownBy(() -> bookingTicketService.submit(new LessonRequestDto(), student))
+                .isInstanceOf(BusinessException.class)
+                .extracting("code").isEqualTo(ExceptionCode.BOOKING_QUEUE_FULL);
+
+        release.countDown();
+    }
+
+    /**
+     * [본인 확인 케이스]
+     * - 다른 학생의 접수 번호로 조회하면 BOOKING_TICKET_NOT_FOUND 예외가 발생해야 함
+     */
+    @Test
+    void 다른학생의_접수내역은_조회불가() {
+        BookingTicketResponseDto ticket = bookingTicketService.submit(new LessonRequestDto(), student);
+
+        assertThatThrownBy(() -> bookingTicketService.getTicket(ticket.getTicketId(), User.builder().id(200L).build(), Duration.ZERO))
+                .isInstanceOf(BusinessException.class)
+                .extracting("code").isEqualTo(ExceptionCode.BOOKING_TICKET_NOT_FOUND);
+    }
+
+    /**
+     * [보관 개수 제한 케이스]
+     * - 처리 중인 접수는 완료 결과 보관 개수(max-tickets)와 무관하게 조회되어야 함
+     */
+    @Test
+    void 처리중_접수는_보관개수와_무관하게_조회() throws Exception {
+        BookingTicketService service = new BookingTicketService(lessonService, 1, 3, Duration.ofMinutes(10), 1, Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return null;
+        }).when(lessonService).bookLesson(any(), any());
+
+        try {
+            // given: 완료 결과 보관 개수(1)보다 많은 접수가 처리 대기
+            List<BookingTicketResponseDto> submitted = IntStream.range(0, 4)
+                    .mapToObj(i -> service.submit(new LessonRequestDto(), student))
+                    .toList();
+
+            // then: 모두 PENDING으로 조회
+            for (BookingTicketResponseDto ticket : submitted) {
+                assertThat(service.getTicket(ticket.getTicketId(), student, Duration.ZERO).get().getStatus())
+                        .isEqualTo(BookingTicketStatus.PENDING);
+            }
+        } finally {
+            release.countDown();
+            service.shutdown();
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.ringle.domain.lesson.service;
+
+import com.ringle.common.exception.BusinessException;
+import com.ringle.common.exception.ExceptionCode;
+import com.ringle.domain.lesson.entity.enums.LessonStatus;
+import com.ringle.domain.lesson.repository.LessonRepository;
+import com.ringle.domain.lesson.repository.projection.CalendarFeedVersion;
+import com.ringle.domain.lesson.repository.projection.CalendarLessonRow;
+import com.ringle.domain.lesson.service.CalendarFeedService.CalendarFeed;
+import com.ringle.domain.user.entity.User;
+import com.ringle.domain.user.entity.enums.Role;
+import com.ringle.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CalendarFeedServiceTest {
+
+    private LessonRepository lessonRepository;
+    private UserRepository userRepository;
+    private CalendarFeedService calendarFeedService;
+
+    private User student;
+    private User tutor;
+
+    @BeforeEach
+    void setUp() {
+        lessonRepository = mock(LessonRepository.class);
+        userRepository = mock(UserRepository.class);
+        calendarFeedService = new CalendarFeedService(lessonRepository, userRepository, "test-feed-secret", "Asia/Seoul", 90);
+
+        student = User.builder().id(1L).name("Test Student").role(Role.STUDENT).calendarFeedKey("student-feed-key").build();
+        tutor = User.builder().id(2L).name("Test Tutor").role(Role.TUTOR).calendarFeedKey("tutor-feed-key").build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(student));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(tutor));
+    }
+
+    /**
+     * [정상 케이스]
+     * - 발급한 피드 경로의 토큰으로 학생 피드를 열고,
+     * - 수업이 UTC 시각, 튜터 이름 제목, CRLF 줄바꿈의 VEVENT로 작성되어야 함
+     */
+    @Test
+    void writeFeed_student_success() {
+        LocalDateTime startTime = LocalDateTime.of(2030, 1, 10, 10, 0);
+        LocalDateTime updatedAt = LocalDateTime.of(2030, 1, 1, 9, 0);
+
+        // Mock 설정: 피드 버전과 수업 1건
+        when(lessonRepository.findStudentCalendarVersion(eq(1L), any())).thenReturn(new CalendarFeedVersion(1L, updatedAt));
+        when(lessonRepository.streamStudentCalendar(eq(1L), any())).thenReturn(Stream.of(
+                new CalendarLessonRow(10L, startTime, startTime.plusMinutes(30), LessonStatus.CONFIRMED,
+                        updatedAt, "Test Tutor", "Test Student")));
+
+        // when: 피드 경로의 토큰으로 피드 조회
+        CalendarFeed feed = calendarFeedService.openFeed(1L, tokenOf(student));
+        StringWriter writer = new StringWriter();
+        calendarFeedService.writeFeed(feed, writer);
+
+        // then: 서울 10:00 → UTC 01:00
+        String ics = writer.toString();
+        assertThat(feed.count()).isEqualTo(1L);
+        assertThat(ics).startsWith("BEGIN:VCALENDAR\r\n").endsWith("END:VCALENDAR\r\n");
+        assertThat(ics).contains("UID:lesson-10@ringle\r\n");
+        assertThat(ics).contains("DTSTART:20300110T010000Z\r\n");
+        assertThat(ics).contains("DTEND:20300110T013000Z\r\n");
+        assertThat(ics).contains("SUMMARY:Ringle 수업 - Test Tutor\r\n");
+        assertThat(ics).contains("STATUS:CONFIRMED\r\n");
+        verify(lessonRepository, never()).streamTutorCalendar(any(), any());
+    }
+
+    /**
+     * [정상 케이스]
+     * - 튜터 피드는 학생 이름으로 제목을 작성하고,
+     * - 75 octet을 넘는 줄은 UTF-8 문자 경계에서 접혀야 하며, 특수문자는 이스케이프되어야 함
+     */
+    @Test
+    void writeFeed_tutor_foldsLongLines() {
+        LocalDateTime startTime = LocalDateTime.of(2030, 1, 10, 10, 0);
+        String longName = "가나다라마바사, 아자차카타파하; ".repeat(4);
+
+        when(lessonRepository.findTutorCalendarVersion(eq(2L), any())).thenReturn(new CalendarFeedVersion(1L, startTime));
+        when(lessonRepository.streamTutorCalendar(eq(2L), any())).thenReturn(Stream.of(
+                new CalendarLessonRow(10L, startTime, startTime.plusMinutes(60), LessonStatus.PENDING,
+                        startTime, "Test Tutor", longName)));
+
+        // when: 튜터 피드 작성
+        StringWriter writer = new StringWriter();
+        calendarFeedService.writeFeed(calendarFeedService.openFeed(2L, tokenOf(tutor)), writer);
+
+        // then: 모든 줄이 75 octet 이하, 접힌 줄을 펼치면 이스케이프된 제목
+        String ics = writer.toString();
+        assertThat(Arrays.stream(ics.split("\r\n")))
+                .allMatch(line -> line.getBytes(StandardCharsets.UTF_8).length <= 75);
+        assertThat(ics.replace("\r\n ", ""))
+                .contains("SUMMARY:Ringle 수업 - " + longName.replace(",", "\\,").replace(";", "\\;") + "\r\n")
+                .contains("STATUS:TENTATIVE\r\n");
+    }
+
+    /**
+     * [예외 케이스]
+     * - 다른 사용자의 토큰이거나 형식이 틀린 토큰은 CALENDAR_FEED_NOT_FOUND
+     */
+    @Test
+    void openFeed_invalidToken() {
+        // when & then: 학생 피드를 튜터 토큰으로 조회
+        assertThatThrownBy(() -> calendarFeedService.openFeed(1L, tokenOf(tutor)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ExceptionCode.CALENDAR_FEED_NOT_FOUND.getMessage());
+
+        assertThatThrownBy(() -> calendarFeedService.openFeed(1L, "invalid"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ExceptionCode.CALENDAR_FEED_NOT_FOUND.getMessage());
+
+        verifyNoInteractions(lessonRepository);
+    }
+
+    /**
+     * [피드 키 재발급]
+     * - 재발급하면 새 경로가 발급되고, 이전 경로의 토큰은 CALENDAR_FEED_NOT_FOUND
+     */
+    @Test
+    void rotateFeedPath_이전토큰_무효() {
+        when(lessonRepository.findStudentCalendarVersion(eq(1L), any())).thenReturn(new CalendarFeedVersion(0L, null));
+        String oldToken = tokenOf(student);
+
+        // when: 피드 키 재발급
+        String newPath = calendarFeedService.rotateFeedPath(1L);
+
+        // then: 새 키로 서명된 경로만 열림
+        String newToken = newPath.substring(newPath.lastIndexOf('/') + 1, newPath.length() - ".ics".length());
+        assertThat(newToken).isNotEqualTo(oldToken);
+        assertThat(student.getCalendarFeedKey()).isNotEqualTo("student-feed-key");
+        assertThat(calendarFeedService.openFeed(1L, newToken).userId()).isEqualTo(1L);
+        assertThatThrownBy(() -> calendarFeedService.openFeed(1L, oldToken))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ExceptionCode.CALENDAR_FEED_NOT_FOUND.getMessage());
+    }
+
+    /**
+     * [피드 키 발급]
+     * - 피드 키가 없는 사용자는 URL을 발급하기 전까지 어떤 토큰으로도 열리지 않고,
+     * - 처음 URL을 조회할 때 키가 발급되어야 함
+     */
+    @Test
+    void getFeedPath_피드키_최초발급() {
+        User newStudent = User.builder().id(3L).name("New Student").role(Role.STUDENT).build();
+        when(userRepository.findById(3L)).thenReturn(Optional.of(newStudent));
+
+        // when & then: 발급 전
+        assertThatThrownBy(() -> calendarFeedService.openFeed(3L, "any-token"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ExceptionCode.CALENDAR_FEED_NOT_FOUND.getMessage());
+
+        // when: URL 조회 (발급)
+        String first = calendarFeedService.getFeedPath(3L);
+
+        // then: 키가 발급되고, 다시 조회해도 같은 경로
+        assertThat(newStudent.getCalendarFeedKey()).isNotBlank();
+        assertThat(calendarFeedService.getFeedPath(3L)).isEqualTo(first);
+    }
+
+    /**
+     * [ETag]
+     * - 수업 수와 마지막 수정 시각이 같으면 같은 ETag,
+     * - 같은 초 안의 수정이나 더 이른 수정 시각의 수업이 늦게 커밋되어 수업 수만 바뀌어도 다른 ETag
+     */
+    @Test
+    void openFeed_etag() {
+        LocalDateTime updatedAt = LocalDateTime.of(2030, 1, 1, 9, 0, 0, 123_456_000);
+        when(lessonRepository.findStudentCalendarVersion(eq(1L), any())).thenReturn(
+                new CalendarFeedVersion(2L, updatedAt),
+                new CalendarFeedVersion(2L, updatedAt),
+                new CalendarFeedVersion(2L, updatedAt.plusNanos(1_000)),
+                new CalendarFeedVersion(3L, updatedAt),
+                new CalendarFeedVersion(0L, null));
+
+        // when: 피드 버전이 바뀌는 동안 5번 조회
+        String first = calendarFeedService.openFeed(1L, tokenOf(student)).etag();
+        String same = calendarFeedService.openFeed(1L, tokenOf(student)).etag();
+        String sameSecond = calendarFeedService.openFeed(1L, tokenOf(student)).etag();
+        String lateCommit = calendarFeedService.openFeed(1L, tokenOf(student)).etag();
+        String empty = calendarFeedService.openFeed(1L, tokenOf(student)).etag();
+
+        // then: 버전이 같을 때만 같은 ETag (따옴표로 감싼 형식)
+        assertThat(first).isEqualTo(same).startsWith("\"").endsWith("\"");
+        assertThat(sameSecond).isNotEqualTo(first);
+        assertThat(lateCommit).isNotEqualTo(first);
+        assertThat(empty).isNotEqualTo(first);
+    }
+
+    /**
+     * 피드 경로(/api/calendar/feeds/{userId}/{token}.ics)에서 토큰 추출
+     */
+    private String tokenOf(User user) {
+        String path = calendarFeedService.getFeedPath(user.getId());
+        return path.substring(path.lastIndexOf('/') + 1, path.length() - ".ics".length());
+    }
+}
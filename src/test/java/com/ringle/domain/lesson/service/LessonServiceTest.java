@@ -2,30 +2,48 @@ package com.ringle.domain.lesson.service;
 
 import com.ringle.common.exception.BusinessException;
 import com.ringle.common.exception.ExceptionCode;
-import com.ringle.common.lock.RedisLockManager;
+import com.ringle.common.lane.SingleWriterLaneExecutor;
+import com.ringle.common.lock.LockProvider;
+import com.ringle.common.lock.LockManager;
 import com.ringle.domain.availability.entity.Availability;
+import com.ringle.domain.availability.index.AvailabilitySlotIndex;
 import com.ringle.domain.availability.repository.AvailabilityRepository;
 import com.ringle.domain.lesson.dto.request.LessonRequestDto;
+import com.ringle.domain.lesson.dto.request.LessonSeriesRequestDto;
+import com.ringle.domain.lesson.dto.response.LessonInfoResponseDto;
+import com.ringle.domain.lesson.dto.response.LessonPageResponseDto;
+import com.ringle.domain.lesson.dto.response.LessonSeriesResponseDto;
+import com.ringle.domain.lesson.dto.response.OccurrenceResultDto;
 import com.ringle.domain.lesson.entity.Lesson;
+import com.ringle.domain.lesson.entity.enums.BookingMode;
 import com.ringle.domain.lesson.entity.enums.DurationType;
+import com.ringle.domain.lesson.entity.enums.LessonStatus;
+import com.ringle.domain.lesson.entity.enums.OccurrenceStatus;
+import com.ringle.domain.lesson.entity.enums.SeriesBookingMode;
 import com.ringle.domain.lesson.repository.LessonRepository;
+import com.ringle.domain.lesson.repository.projection.LessonRow;
 import com.ringle.domain.user.entity.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 /**
  * LessonService의 bookLesson() 메서드에 대한 단위 테스트 클래스
- * - RedisLockManager를 통해 동시성 테스트도 포함
+ * - LockManager를 통해 동시성 테스트도 포함
  * - 다양한 시나리오(정상 예약, 대체 튜터, 예약 불가)를 검증함
  */
 class LessonServiceTest {
@@ -40,12 +58,34 @@ class LessonServiceTest {
     private LessonRepository lessonRepository;
 
     @Mock
-    private RedisLockManager redisLockManager;
+    private LockManager lockManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private AvailabilitySlotIndex availabilitySlotIndex; // 기본값: 인덱스 미사용 (isReady = false)
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private SingleWriterLaneExecutor laneExecutor;
 
     @BeforeEach
     void setup() {
         // @Mock 애노테이션 초기화
         MockitoAnnotations.openMocks(this);
+
+        // 트랜잭션 템플릿은 콜백을 바로 실행
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+
+        // 조건부 UPDATE는 요청한 슬롯을 모두 점유한 것으로 응답
+        when(availabilityRepository.claimSlots(anyList()))
+                .thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
     }
 
     /**
@@ -77,10 +117,10 @@ class LessonServiceTest {
 
         // when: 분산 락 내부 실행 로직을 바로 실행되도록 세팅
         doAnswer(invocation -> {
-            RedisLockManager.LockExecutor<?> executor = invocation.getArgument(3);
+            LockProvider.LockExecutor<?> executor = invocation.getArgument(3);
             executor.execute();
             return null;
-        }).when(redisLockManager).runWithLock(anyString(), anyInt(), anyInt(), any());
+        }).when(lockManager).runWithLocks(anyList(), anyInt(), anyInt(), any());
 
         // then: 예외 없이 실행되며 수업이 저장되는지 확인
         assertDoesNotThrow(() -> lessonService.bookLesson(request, student));
@@ -104,26 +144,75 @@ class LessonServiceTest {
         User student = User.builder().id(200L).build();
         User altTutor = User.builder().id(99L).build();
 
-        Availability alt1 = Availability.builder().tutor(altTutor).startTime(startTime).endTime(startTime.plusMinutes(30)).build();
-        Availability alt2 = Availability.builder().tutor(altTutor).startTime(startTime.plusMinutes(30)).endTime(startTime.plusMinutes(60)).build();
+        Availability alt1 = Availability.builder().id(11L).tutor(altTutor).startTime(startTime).endTime(startTime.plusMinutes(30)).build();
+        Availability alt2 = Availability.builder().id(12L).tutor(altTutor).startTime(startTime.plusMinutes(30)).endTime(startTime.plusMinutes(60)).build();
 
-        // 원래 튜터는 예약 불가, 대체 튜터 슬롯 2개 제공
-        when(availabilityRepository.findAvailableSlots(anyLong(), any(), any()))
+        // 원래 튜터는 예약 불가, 대체 튜터 후보 1명 (슬롯 2개)
+        when(availabilityRepository.findAvailableSlots(eq(1L), any(), any()))
                 .thenReturn(List.of());
-        when(availabilityRepository.findAlternativeSlots(anyLong(), any(), any()))
+        when(availabilityRepository.findAlternativeTutorIds(eq(1L), any(), any(), eq(2L), any()))
+                .thenReturn(List.of(99L));
+        when(availabilityRepository.findAvailableSlots(eq(99L), any(), any()))
                 .thenReturn(List.of(alt1, alt2));
 
         doAnswer(invocation -> {
-            RedisLockManager.LockExecutor<?> executor = invocation.getArgument(3);
+            LockProvider.LockExecutor<?> executor = invocation.getArgument(3);
             executor.execute();
             return null;
-        }).when(redisLockManager).runWithLock(anyString(), anyInt(), anyInt(), any());
+        }).when(lockManager).runWithLocks(anyList(), anyInt(), anyInt(), any());
 
         // then
         assertDoesNotThrow(() -> lessonService.bookLesson(request, student));
         verify(lessonRepository, times(1)).save(any(Lesson.class));
     }
 
+    /**
+     * [대체 튜터 점유 충돌 시나리오]
+     * - 첫 번째 후보의 두 번째 슬롯을 다른 요청이 먼저 점유한 경우
+     * - 첫 번째 후보의 점유를 되돌리고 다음 후보로 예약되어야 함
+     */
+    @Test
+    void testBookLesson_AlternativeTutor_NextCandidateOnConflict() {
+        // given
+        LocalDateTime startTime = LocalDateTime.of(2025, 3, 28, 15, 0);
+        LessonRequestDto request = new LessonRequestDto();
+        ReflectionTestUtils.setField(request, "tutorId", 1L);
+        ReflectionTestUtils.setField(request, "startTime", startTime);
+        ReflectionTestUtils.setField(request, "durationType", DurationType.SIXTY);
+        ReflectionTestUtils.setField(request, "allowAlternativeTutor", true);
+
+        User firstTutor = User.builder().id(98L).build();
+        User secondTutor = User.builder().id(99L).build();
+
+        Availability first1 = Availability.builder().id(21L).tutor(firstTutor).startTime(startTime).endTime(startTime.plusMinutes(30)).build();
+        Availability first2 = Availability.builder().id(22L).tutor(firstTutor).startTime(startTime.plusMinutes(30)).endTime(startTime.plusMinutes(60)).build();
+        Availability second1 = Availability.builder().id(31L).tutor(secondTutor).startTime(startTime).endTime(startTime.plusMinutes(30)).build();
+        Availability second2 = Availability.builder().id(32L).tutor(secondTutor).startTime(startTime.plusMinutes(30)).endTime(startTime.plusMinutes(60)).build();
+
+        when(availabilityRepository.findAvailableSlots(eq(1L), any(), any())).thenReturn(List.of());
+        when(availabilityRepository.findAlternativeTutorIds(eq(1L), any(), any(), eq(2L), any()))
+                .thenReturn(List.of(98L, 99L));
+        when(availabilityRepository.findAvailableSlots(eq(98L), any(), any())).thenReturn(List.of(first1, first2));
+        when(availabilityRepository.findAvailableSlots(eq(99L), any(), any())).thenReturn(List.of(second1, second2));
+
+        // 첫 번째 후보의 22번 슬롯은 이미 점유됨
+        when(availabilityRepository.claimSlots(List.of(22L))).thenReturn(0);
+
+        doAnswer(invocation -> {
+            LockProvider.LockExecutor<?> executor = invocation.getArgument(3);
+            return executor.execute();
+        }).when(lockManager).runWithLocks(anyList(), anyInt(), anyInt(), any());
+
+        // when
+        lessonService.bookLesson(request, User.builder().id(200L).build());
+
+        // then: 21번 점유 되돌림, 두 번째 후보로 수업 생성
+        verify(availabilityRepository).releaseSlots(List.of(21L));
+        verify(availabilityRepository).claimSlots(List.of(31L));
+        verify(availabilityRepository).claimSlots(List.of(32L));
+        verify(lessonRepository, times(1)).save(argThat((Lesson lesson) -> lesson.getTutor() == secondTutor));
+    }
+
     /**
      * [수업 예약 실패 테스트]
      * - 대체 튜터도 없고 예약 가능한 슬롯도 없는 경우 예외가 발생해야 함
@@ -144,9 +233,9 @@ class LessonServiceTest {
                 .thenReturn(List.of());
 
         doAnswer(invocation -> {
-            RedisLockManager.LockExecutor<?> executor = invocation.getArgument(3);
+            LockProvider.LockExecutor<?> executor = invocation.getArgument(3);
             return executor.execute();
-        }).when(redisLockManager).runWithLock(anyString(), anyInt(), anyInt(), any());
+        }).when(lockManager).runWithLocks(anyList(), anyInt(), anyInt(), any());
 
         // then: 예외 발생 검증
         BusinessException ex = assertThrows(BusinessException.class, () ->
@@ -156,8 +245,72 @@ class LessonServiceTest {
     }
 
     /**
-     * [Redis 분산 락 실행 여부 검증]
-     * - runWithLock() 메서드가 정확히 한 번 호출되었는지 확인
+     * [인덱스 사전 검사 테스트]
+     * - 인덱스상 지정 튜터가 60분 수업을 시작할 수 없고 대체 튜터를 허용하지 않는 경우
+     * - 락 획득 및 DB 조회 없이 예외가 발생해야 함
+     */
+    @Test
+    void testBookLesson_RejectedByIndexBeforeLock() {
+        // given
+        LocalDateTime startTime = LocalDateTime.of(2025, 3, 28, 10, 0);
+        LessonRequestDto request = new LessonRequestDto();
+        ReflectionTestUtils.setField(request, "tutorId", 1L);
+        ReflectionTestUtils.setField(request, "startTime", startTime);
+        ReflectionTestUtils.setField(request, "durationType", DurationType.SIXTY);
+        ReflectionTestUtils.setField(request, "allowAlternativeTutor", false);
+
+        when(availabilitySlotIndex.isReady()).thenReturn(true);
+        when(availabilitySlotIndex.isSixtyMinuteStart(1L, startTime)).thenReturn(false);
+
+        // then
+        BusinessException ex = assertThrows(BusinessException.class, () ->
+                lessonService.bookLesson(request, User.builder().id(99L).build()));
+
+        assertEquals(ExceptionCode.NO_AVAILABLE_TUTOR, ex.getCode());
+        verifyNoInteractions(lockManager, availabilityRepository);
+    }
+
+    /**
+     * [인덱스 기반 슬롯 검사 테스트]
+     * - 인덱스 사용 중이면 인덱스상 수업 불가한 튜터(지정 튜터, 첫 번째 후보)는 DB 슬롯 조회를 생략하고,
+     * - 인덱스상 가능한 후보만 DB로 다시 확인하여 예약되어야 함
+     */
+    @Test
+    void testBookLesson_SkipsSlotQueryForTutorsClosedInIndex() {
+        // given
+        LocalDateTime startTime = LocalDateTime.of(2025, 3, 28, 10, 0);
+        LessonRequestDto request = new LessonRequestDto();
+        ReflectionTestUtils.setField(request, "tutorId", 1L);
+        ReflectionTestUtils.setField(request, "startTime", startTime);
+        ReflectionTestUtils.setField(request, "durationType", DurationType.THIRTY);
+        ReflectionTestUtils.setField(request, "allowAlternativeTutor", true);
+
+        User altTutor = User.builder().id(3L).build();
+        Availability altSlot = Availability.builder().id(31L).tutor(altTutor).startTime(startTime).endTime(startTime.plusMinutes(30)).build();
+
+        // 인덱스: 1번, 2번 튜터는 불가, 3번 튜터만 가능
+        when(availabilitySlotIndex.isReady()).thenReturn(true);
+        when(availabilitySlotIndex.isOpen(anyLong(), eq(startTime))).thenReturn(false);
+        when(availabilitySlotIndex.isOpen(3L, startTime)).thenReturn(true);
+        when(availabilitySlotIndex.getOpenMask(startTime.toLocalDate())).thenReturn(-1L);
+
+        when(availabilityRepository.findAlternativeTutorIds(eq(1L), any(), any(), eq(1L), any()))
+                .thenReturn(List.of(2L, 3L));
+        when(availabilityRepository.findAvailableSlots(eq(3L), any(), any())).thenReturn(List.of(altSlot));
+        mockLocksExecuted();
+
+        // when
+        lessonService.bookLesson(request, User.builder().id(200L).build());
+
+        // then: 인덱스상 불가한 튜터는 조회하지 않고, 3번 튜터로 수업 생성
+        verify(availabilityRepository, never()).findAvailableSlots(eq(1L), any(), any());
+        verify(availabilityRepository, never()).findAvailableSlots(eq(2L), any(), any());
+        verify(lessonRepository, times(1)).save(argThat((Lesson lesson) -> lesson.getTutor() == altTutor));
+    }
+
+    /**
+     * [슬롯 락 실행 여부 검증]
+     * - runWithLocks() 메서드가 정확히 한 번 호출되었는지 확인
      */
     @Test
     void testDistributedLock_IsUsed() {
@@ -177,15 +330,371 @@ class LessonServiceTest {
                 ));
 
         doAnswer(invocation -> {
-            RedisLockManager.LockExecutor<?> executor = invocation.getArgument(3);
+            LockProvider.LockExecutor<?> executor = invocation.getArgument(3);
             executor.execute();
             return null;
-        }).when(redisLockManager).runWithLock(anyString(), anyInt(), anyInt(), any());
+        }).when(lockManager).runWithLocks(anyList(), anyInt(), anyInt(), any());
 
         // when
         lessonService.bookLesson(request, User.builder().id(99L).build());
 
         // then
-        verify(redisLockManager, times(1)).runWithLock(anyString(), anyInt(), anyInt(), any());
+        verify(lockManager, times(1)).runWithLocks(anyList(), anyInt(), anyInt(), any());
+    }
+
+    /**
+     * [슬롯 단위 락 키 검증]
+     * - 60분 수업은 차지하는 30분 슬롯 두 개 모두에 대해 락을 요청해야 함
+     * - 같은 튜터의 09:30 30분 수업과 09:30 슬롯 락을 공유
+     */
+    @Test
+    void testDistributedLock_LocksEverySlot() {
+        // given
+        LocalDateTime startTime = LocalDateTime.of(2025, 3, 28, 9, 0);
+        LessonRequestDto request = new LessonRequestDto();
+        ReflectionTestUtils.setField(request, "tutorId", 1L);
+        ReflectionTestUtils.setField(request, "startTime", startTime);
+        ReflectionTestUtils.setField(request, "durationType", DurationType.SIXTY);
+        ReflectionTestUtils.setField(request, "allowAlternativeTutor", false);
+
+        // when
+        lessonService.bookLesson(request, User.builder().id(99L).build());
+
+        // then
+        verify(lockManager, times(1)).runWithLocks(
+                eq(List.of("lesson:slot:1:" + startTime, "lesson:slot:1:" + startTime.plusMinutes(30))),
+                anyInt(), anyInt(), any());
+    }
+
+    /**
+     * [낙관적 모드 재시도 테스트]
+     * - OPTIMISTIC 모드에서는 분산 락을 사용하지 않고,
+     * - 조건부 UPDATE 충돌(변경 행 수 부족) 시 다시 시도하여 예약되어야 함
+     */
+    @Test
+    void testBookLesson_Optimistic_RetriesOnConflict() {
+        // given
+        ReflectionTestUtils.setField(lessonService, "bookingMode", BookingMode.OPTIMISTIC);
+        ReflectionTestUtils.setField(lessonService, "maxAttempts", 3);
+
+        LocalDateTime startTime = LocalDateTime.of(2025, 3, 28, 11, 0);
+        LessonRequestDto request = new LessonRequestDto();
+        ReflectionTestUtils.setField(request, "tutorId", 1L);
+        ReflectionTestUtils.setField(request, "startTime", startTime);
+        ReflectionTestUtils.setField(request, "durationType", DurationType.THIRTY);
+        ReflectionTestUtils.setField(request, "allowAlternativeTutor", false);
+
+        Availability slot = Availability.builder()
+                .id(10L)
+                .tutor(User.builder().id(1L).build())
+                .startTime(startTime)
+                .endTime(startTime.plusMinutes(30))
+                .build();
+
+        when(availabilityRepository.findAvailableSlots(anyLong(), any(), any())).thenReturn(List.of(slot));
+
+        // 첫 시도는 다른 요청이 먼저 점유(0건), 두 번째 시도에서 점유 성공
+        when(availabilityRepository.claimSlots(List.of(10L))).thenReturn(0, 1);
+
+        // when
+        lessonService.bookLesson(request, User.builder().id(99L).build());
+
+        // then
+        verify(availabilityRepository, times(2)).claimSlots(List.of(10L));
+        verify(lessonRepository, times(1)).save(any(Lesson.class));
+        verifyNoInteractions(lockManager);
+    }
+
+    /**
+     * [낙관적 모드 실패 테스트]
+     * - 최대 시도 횟수까지 계속 충돌하면 BOOKING_CONFLICT 예외가 발생하고 수업은 생성되지 않아야 함
+     */
+    @Test
+    void testBookLesson_Optimistic_ConflictExhausted() {
+        // given
+        ReflectionTestUtils.setField(lessonService, "bookingMode", BookingMode.OPTIMISTIC);
+        ReflectionTestUtils.setField(lessonService, "maxAttempts", 2);
+
+        LocalDateTime startTime = LocalDateTime.of(2025, 3, 28, 11, 0);
+        LessonRequestDto request = new LessonRequestDto();
+        ReflectionTestUtils.setField(request, "tutorId", 1L);
+        ReflectionTestUtils.setField(request, "startTime", startTime);
+        ReflectionTestUtils.setField(request, "durationType", DurationType.THIRTY);
+        ReflectionTestUtils.setField(request, "allowAlternativeTutor", false);
+
+        Availability slot = Availability.builder()
+                .id(10L)
+                .tutor(User.builder().id(1L).build())
+                .startTime(startTime)
+                .endTime(startTime.plusMinutes(30))
+                .build();
+
+        when(availabilityRepository.findAvailableSlots(anyLong(), any(), any())).thenReturn(List.of(slot));
+        when(availabilityRepository.claimSlots(anyList())).thenReturn(0);
+
+        // then
+        BusinessException ex = assertThrows(BusinessException.class, () ->
+                lessonService.bookLesson(request, User.builder().id(99L).build()));
+
+        assertEquals(ExceptionCode.BOOKING_CONFLICT, ex.getCode());
+        verify(availabilityRepository, times(2)).claimSlots(anyList());
+        verify(lessonRepository, never()).save(any(Lesson.class));
+    }
+
+    /**
+     * [레인 모드 테스트]
+     * - 요청한 튜터의 레인에서 트랜잭션이 실행되고, 슬롯 락은 사용하지 않아야 함
+     */
+    @Test
+    void testBookLesson_Lane_RunsOnTutorLane() throws Exception {
+        // given
+        ReflectionTestUtils.setField(lessonService, "bookingMode", BookingMode.LANE);
+
+        LocalDateTime startTime = LocalDateTime.of(2025, 3, 28, 12, 0);
+        LessonRequestDto request = new LessonRequestDto();
+        ReflectionTestUtils.setField(request, "tutorId", 1L);
+        ReflectionTestUtils.setField(request, "startTime", startTime);
+        ReflectionTestUtils.setField(request, "durationType", DurationType.THIRTY);
+        ReflectionTestUtils.setField(request, "allowAlternativeTutor", false);
+
+        when(availabilityRepository.findAvailableSlots(anyLong(), any(), any()))
+                .thenReturn(List.of(slot(10L, User.builder().id(1L).build(), startTime)));
+
+        // 레인 작업은 바로 실행
+        when(laneExecutor.execute(anyLong(), any())).thenAnswer(invocation -> {
+            Callable<?> task = invocation.getArgument(1);
+            return task.call();
+        });
+
+        // when
+        lessonService.bookLesson(request, User.builder().id(100L).build());
+
+        // then
+        verify(laneExecutor).execute(eq(1L), any());
+        verify(lessonRepository).save(any(Lesson.class));
+        verifyNoInteractions(lockManager);
+    }
+
+    /**
+     * [레인 모드 거절 테스트]
+     * - 튜터 레인 큐가 가득 차면 BOOKING_QUEUE_FULL 예외가 그대로 전달되어야 함
+     */
+    @Test
+    void testBookLesson_Lane_QueueFull() {
+        // given
+        ReflectionTestUtils.setField(lessonService, "bookingMode", BookingMode.LANE);
+
+        LessonRequestDto request = new LessonRequestDto();
+        ReflectionTestUtils.setField(request, "tutorId", 1L);
+        ReflectionTestUtils.setField(request, "startTime", LocalDateTime.of(2025, 3, 28, 12, 0));
+        ReflectionTestUtils.setField(request, "durationType", DurationType.THIRTY);
+
+        when(laneExecutor.execute(anyLong(), any()))
+                .thenThrow(new BusinessException(ExceptionCode.BOOKING_QUEUE_FULL));
+
+        // then
+        BusinessException ex = assertThrows(BusinessException.class, () ->
+                lessonService.bookLesson(request, User.builder().id(100L).build()));
+
+        assertEquals(ExceptionCode.BOOKING_QUEUE_FULL, ex.getCode());
+        verify(lessonRepository, never()).save(any(Lesson.class));
+    }
+
+    /**
+     * [수업 페이지 조회 테스트]
+     * - size + 1개가 조회되면 size개만 반환하고, 마지막 수업 기준 커서로 다음 페이지를 조회해야 함
+     */
+    @Test
+    void testGetLessonPage_KeysetCursor() {
+        // given
+        LocalDateTime startTime = LocalDateTime.of(2025, 3, 28, 10, 0);
+        User student = User.builder().id(100L).build();
+        LessonRow first = lessonRow(3L, startTime);
+        LessonRow second = lessonRow(2L, startTime.minusDays(1));
+        LessonRow third = lessonRow(1L, startTime.minusDays(2));
+
+        when(lessonRepository.findLessonPage(eq(100L), any())).thenReturn(List.of(first, second, third));
+        when(lessonRepository.findLessonPageAfter(eq(100L), eq(second.startTime()), eq(2L), any())).thenReturn(List.of(third));
+
+        // when: 첫 페이지 (size = 2)
+        LessonPageResponseDto page = lessonService.getLessonPage(student, null, 2);
+
+        // then
+        assertEquals(List.of(3L, 2L), page.getLessons().stream().map(LessonInfoResponseDto::getLessonId).toList());
+        assertTrue(page.isHasNext());
+        assertNotNull(page.getNextCursor());
+
+        // when: 다음 페이지
+        LessonPageResponseDto next = lessonService.getLessonPage(student, page.getNextCursor(), 2);
+
+        // then
+        assertEquals(List.of(1L), next.getLessons().stream().map(LessonInfoResponseDto::getLessonId).toList());
+        assertFalse(next.isHasNext());
+        assertNull(next.getNextCursor());
+        verify(lessonRepository).findLessonPageAfter(eq(100L), eq(second.startTime()), eq(2L), argThat(p -> p.getPageSize() == 3));
+    }
+
+    /**
+     * [수업 페이지 커서 오류 테스트]
+     * - 해석할 수 없는 커서는 INVALID_CURSOR 예외가 발생해야 함
+     */
+    @Test
+    void testGetLessonPage_InvalidCursor() {
+        BusinessException ex = assertThrows(BusinessException.class, () ->
+                lessonService.getLessonPage(User.builder().id(100L).build(), "not-a-cursor", 20));
+
+        assertEquals(ExceptionCode.INVALID_CURSOR, ex.getCode());
+        verifyNoInteractions(lessonRepository);
+    }
+
+    private LessonRow lessonRow(Long lessonId, LocalDateTime startTime) {
+        return new LessonRow(lessonId, startTime, startTime.plusMinutes(30), DurationType.THIRTY,
+                LessonStatus.CONFIRMED, "Tutor", "tutor@ringle.com");
+    }
+
+    /**
+     * [반복 수업 ALL_OR_NOTHING 테스트]
+     * - 3회차 중 한 주의 슬롯이 없으면 어떤 회차도 신청되지 않아야 함
+     */
+    @Test
+    void testBookLessonSeries_AllOrNothing_OneWeekUnavailable() {
+        // given
+        LocalDateTime startTime = LocalDateTime.of(2025, 3, 28, 10, 0);
+        LessonSeriesRequestDto request = seriesRequest(startTime, 3, SeriesBookingMode.ALL_OR_NOTHING);
+
+        User tutor = User.builder().id(1L).build();
+        // 2주차 슬롯 없음
+        when(availabilityRepository.findUnbookedSlotsByStartTimes(eq(1L), anyList()))
+                .thenReturn(List.of(slot(21L, tutor, startTime), slot(23L, tutor, startTime.plusWeeks(2))));
+        mockLocksExecuted();
+
+        // when
+        LessonSeriesResponseDto result = lessonService.bookLessonSeries(request, User.builder().id(100L).build());
+
+        // then
+        assertEquals(3, result.getRequestedCount());
+        assertEquals(0, result.getBookedCount());
+        assertEquals(List.of(OccurrenceStatus.NOT_BOOKED, OccurrenceStatus.UNAVAILABLE, OccurrenceStatus.NOT_BOOKED),
+                result.getOccurrences().stream().map(OccurrenceResultDto::getStatus).toList());
+        verify(availabilityRepository, never()).claimSlots(anyList());
+        verify(lessonRepository).saveAll(argThat((Collection<Lesson> lessons) -> lessons.isEmpty()));
+    }
+
+    /**
+     * [반복 수업 BEST_EFFORT 테스트]
+     * - 슬롯이 열려 있는 회차만 신청되고, 전체 회차 조회와 점유는 각각 한 번의 쿼리로 처리되어야 함
+     */
+    @Test
+    void testBookLessonSeries_BestEffort_BooksAvailableWeeks() {
+        // given
+        LocalDateTime startTime = LocalDateTime.of(2025, 3, 28, 10, 0);
+        LessonSeriesRequestDto request = seriesRequest(startTime, 3, SeriesBookingMode.BEST_EFFORT);
+
+        User tutor = User.builder().id(1L).build();
+        List<Availability> openSlots = List.of(slot(21L, tutor, startTime), slot(23L, tutor, startTime.plusWeeks(2)));
+        when(availabilityRepository.findUnbookedSlotsByStartTimes(eq(1L), anyList())).thenReturn(openSlots);
+        when(availabilityRepository.findUnbookedSlotsForUpdate(List.of(21L, 23L))).thenReturn(openSlots);
+        mockLocksExecuted();
+
+        // when
+        LessonSeriesResponseDto result = lessonService.bookLessonSeries(request, User.builder().id(100L).build());
+
+        // then
+        assertEquals(2, result.getBookedCount());
+        assertEquals(List.of(OccurrenceStatus.BOOKED, OccurrenceStatus.UNAVAILABLE, OccurrenceStatus.BOOKED),
+                result.getOccurrences().stream().map(OccurrenceResultDto::getStatus).toList());
+        verify(availabilityRepository, times(1)).findUnbookedSlotsByStartTimes(eq(1L), anyList());
+        verify(availabilityRepository, times(1)).claimSlots(anyList());
+        verify(availabilityRepository).claimSlots(List.of(21L, 23L));
+        verify(lessonRepository).saveAll(argThat((Collection<Lesson> lessons) -> lessons.size() == 2));
+    }
+
+    /**
+     * [반복 수업 BEST_EFFORT 동시 점유 테스트]
+     * - 조회 후 다른 요청이 먼저 점유한 슬롯의 회차는 NOT_BOOKED, 나머지 회차만 UPDATE 한 번으로 점유되어야 함
+     */
+    @Test
+    void testBookLessonSeries_BestEffort_SkipsWeeksClaimedConcurrently() {
+        // given: 3회차 모두 열려 있었으나 잠금 조회 시 2회차 슬롯은 이미 점유됨
+        LocalDateTime startTime = LocalDateTime.of(2025, 3, 28, 10, 0);
+        LessonSeriesRequestDto request = seriesRequest(startTime, 3, SeriesBookingMode.BEST_EFFORT);
+
+        User tutor = User.builder().id(1L).build();
+        Availability week1 = slot(21L, tutor, startTime);
+        Availability week2 = slot(22L, tutor, startTime.plusWeeks(1));
+        Availability week3 = slot(23L, tutor, startTime.plusWeeks(2));
+        when(availabilityRepository.findUnbookedSlotsByStartTimes(eq(1L), anyList())).thenReturn(List.of(week1, week2, week3));
+        when(availabilityRepository.findUnbookedSlotsForUpdate(List.of(21L, 22L, 23L))).thenReturn(List.of(week1, week3));
+        mockLocksExecuted();
+
+        // when
+        LessonSeriesResponseDto result = lessonService.bookLessonSeries(request, User.builder().id(100L).build());
+
+        // then
+        assertEquals(2, result.getBookedCount());
+        assertEquals(List.of(OccurrenceStatus.BOOKED, OccurrenceStatus.NOT_BOOKED, OccurrenceStatus.BOOKED),
+                result.getOccurrences().stream().map(OccurrenceResultDto::getStatus).toList());
+        verify(availabilityRepository, times(1)).claimSlots(anyList());
+        verify(availabilityRepository).claimSlots(List.of(21L, 23L));
+        verify(availabilityRepository, never()).releaseSlots(anyList());
+    }
+
+    /**
+     * [입력 값 검증 테스트]
+     * - 튜터 ID가 없는 신청은 레인/락으로 넘기기 전에 NOT_VALID_ERROR 예외가 발생해야 함 (NPE로 500이 되지 않음)
+     */
+    @Test
+    void testBookLesson_NullTutorId() {
+        LessonRequestDto request = new LessonRequestDto();
+        request.setStartTime(LocalDateTime.of(2025, 3, 28, 10, 0));
+        request.setDurationType(DurationType.THIRTY);
+
+        BusinessException ex = assertThrows(BusinessException.class, () ->
+                lessonService.bookLesson(request, User.builder().id(100L).build()));
+
+        assertEquals(ExceptionCode.NOT_VALID_ERROR, ex.getCode());
+        verifyNoInteractions(laneExecutor, lockManager, availabilityRepository);
+    }
+
+    /**
+     * [반복 수업 회차 수 검증 테스트]
+     * - 최대 회차(52회)를 넘으면 INVALID_LESSON_SERIES 예외가 발생해야 함
+     */
+    @Test
+    void testBookLessonSeries_TooManyOccurrences() {
+        LessonSeriesRequestDto request = seriesRequest(LocalDateTime.of(2025, 3, 28, 10, 0), 53, SeriesBookingMode.BEST_EFFORT);
+
+        BusinessException ex = assertThrows(BusinessException.class, () ->
+                lessonService.bookLessonSeries(request, User.builder().id(100L).build()));
+
+        assertEquals(ExceptionCode.INVALID_LESSON_SERIES, ex.getCode());
+        verifyNoInteractions(lockManager);
+    }
+
+    private LessonSeriesRequestDto seriesRequest(LocalDateTime startTime, int occurrences, SeriesBookingMode mode) {
+        LessonSeriesRequestDto request = new LessonSeriesRequestDto();
+        request.setTutorId(1L);
+        request.setStartTime(startTime);
+        request.setDurationType(DurationType.THIRTY);
+        request.setOccurrences(occurrences);
+        request.setMode(mode);
+        return request;
+    }
+
+    private Availability slot(Long id, User tutor, LocalDateTime startTime) {
+        return Availability.builder()
+                .id(id)
+                .tutor(tutor)
+                .startTime(startTime)
+                .endTime(startTime.plusMinutes(30))
+                .build();
+    }
+
+    // 분산 락 내부 로직을 바로 실행
+    private void mockLocksExecuted() {
+        when(lockManager.runWithLocks(anyList(), anyInt(), anyInt(), any())).thenAnswer(invocation -> {
+            LockProvider.LockExecutor<?> executor = invocation.getArgument(3);
+            return executor.execute();
+        });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,91 @@
+package com.ringle.domain.lesson.service;
+
+import com.ringle.common.exception.BusinessException;
+import com.ringle.common.exception.ExceptionCode;
+import com.ringle.domain.lesson.dto.response.TutorLessonResponseDto;
+import com.ringle.domain.lesson.entity.enums.DurationType;
+import com.ringle.domain.lesson.entity.enums.LessonStatus;
+import com.ringle.domain.lesson.repository.LessonRepository;
+import com.ringle.domain.lesson.repository.projection.TutorLessonRow;
+import com.ringle.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TutorLessonServiceTest {
+
+    @Mock
+    private LessonRepository lessonRepository;
+
+    @InjectMocks
+    private TutorLessonService tutorLessonService;
+
+    private User tutor;
+
+    @BeforeEach
+    void setUp() {
+        // Mockito 어노테이션 초기화
+        MockitoAnnotations.openMocks(this);
+
+        tutor = User.builder()
+                .id(1L)
+                .name("Test Tutor")
+                .build();
+    }
+
+    /**
+     * [정상 케이스]
+     * - 기간 내 수업이 학생 이름과 함께 반환되어야 함
+     * - 종료일 다음날 00:00까지 (미만) 범위로 조회해야 함
+     */
+    @Test
+    void getLessonsByTutor_success() {
+        LocalDate from = LocalDate.now().plusDays(1);
+        LocalDate to = from.plusDays(6);
+        LocalDateTime startTime = from.atTime(10, 0);
+
+        // Mock 설정: 수업 1건
+        when(lessonRepository.findTutorLessonsBetween(1L, from.atStartOfDay(), to.plusDays(1).atStartOfDay()))
+                .thenReturn(List.of(new TutorLessonRow(10L, startTime, startTime.plusMinutes(30),
+                        DurationType.THIRTY, LessonStatus.CONFIRMED, "Test Student")));
+
+        // when: 튜터 수업 일정 조회
+        List<TutorLessonResponseDto> result = tutorLessonService.getLessonsByTutor(tutor, from, to);
+
+        // then: 학생 이름이 포함된 수업 1건
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getLessonId()).isEqualTo(10L);
+        assertThat(result.get(0).getStudentName()).isEqualTo("Test Student");
+        assertThat(result.get(0).getStartTime()).isEqualTo(startTime);
+    }
+
+    /**
+     * [예외 케이스]
+     * - 종료일이 시작일보다 앞서거나, 기간이 31일을 넘으면 INVALID_DATE_RANGE
+     */
+    @Test
+    void getLessonsByTutor_invalidRange() {
+        LocalDate from = LocalDate.now();
+
+        // when & then: 역순 기간
+        assertThatThrownBy(() -> tutorLessonService.getLessonsByTutor(tutor, from, from.minusDays(1)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ExceptionCode.INVALID_DATE_RANGE.getMessage());
+
+        // when & then: 32일 기간
+        assertThatThrownBy(() -> tutorLessonService.getLessonsByTutor(tutor, from, from.plusDays(31)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ExceptionCode.INVALID_DATE_RANGE.getMessage());
+
+        verifyNoInteractions(lessonRepository);
+    }
+}